@@ -4,6 +4,7 @@ import org.openqa.selenium.WebDriver;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 import Utils.ExtentReportManager;
+import Utils.ScreenshotProfile;
 import Utils.ScreenshotUtils;
 import TestBase.TestBase;
 
@@ -48,7 +49,7 @@ public class ExtentTestListener implements ITestListener {
             TestBase testBase = (TestBase) result.getInstance();
             WebDriver driver = testBase.getDriver();
             if (driver != null) {
-                String ssPath = ScreenshotUtils.capture(driver, "final_failure");
+                String ssPath = ScreenshotUtils.capture(driver, "final_failure", ScreenshotProfile.failure());
                 ExtentReportManager.logFail("Failure Screenshot", ssPath);
             }
         } catch (Exception e) {
@@ -0,0 +1,42 @@
+package Pages;
+
+import java.io.IOException;
+
+import Utils.ActionHelper;
+
+/**
+ * Common base of the page objects handed out by PageRegistry.
+ * The constructor does no browser work; the page's ready-check runs on the first call to
+ * ensureLoaded() after the page was navigated to, and public page methods start with it.
+ */
+public abstract class BasePage {
+    protected final PageRegistry pages;
+    protected final ActionHelper actions;
+    private volatile boolean loaded;
+
+    protected BasePage(PageRegistry pages, String pageName) {
+        this.pages = pages;
+        this.actions = pages.actions().forPage(pageName);
+    }
+
+    /**
+     * Blocks until the page is ready for interaction
+     * @throws IOException
+     */
+    protected abstract void verifyPageLoaded() throws IOException;
+
+    /**
+     * Runs the ready-check once per visit to the page
+     * @throws IOException
+     */
+    public final void ensureLoaded() throws IOException {
+        if (!loaded) {
+            verifyPageLoaded();
+            loaded = true;
+        }
+    }
+
+    final void expectNavigation() {
+        loaded = false;
+    }
+}
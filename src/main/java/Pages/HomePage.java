@@ -1,21 +1,20 @@
 package Pages;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.openqa.selenium.By;
 import org.openqa.selenium.ElementNotInteractableException;
-import TestBase.TestBase;
-import Utils.ActionHelper;
 
-public class HomePage {
-    private final ActionHelper actions;
-    private final TestBase testBase;
+public class HomePage extends BasePage {
     
     private static final By loginButton = By.xpath("//*[@id=\"__next\"]/main/div/header/div[2]/div/div/a[1]/button");
     private static final By header = By.cssSelector("#__next > main > div > header > div:nth-child(2) > a > div > img");
     private static final By title = By.cssSelector("#__next > main > div > header > div:nth-child(2) > a > div > img");
     private static final By logo = By.xpath("//*[@id=\"__next\"]/main/div/header/div[1]/a/div/div");
     private static final By banner = By.xpath("//*[@id=\"__next\"]/main/div/main/div/div/div/div[1]");
+    private static final List<By> pageElements = Arrays.asList(header, logo, loginButton, banner);
 //    @FindBy(css = "#__next > main > div > header > div.m_4081bf90.mantine-Group-root.mantine-visible-from-md > div > div > a:nth-child(1) > button") // Improved CSS selector
 //    private WebElement loginButton;
 //    
@@ -25,29 +24,32 @@ public class HomePage {
 //    @FindBy(xpath = "//*[@id=\"__next\"]/main/div/main/div/div/div/div[1]/div/a/button/span/span")
 //    private WebElement gotoExample;
 
-    public HomePage(TestBase testBase) throws IOException {
-        this.testBase = testBase;
-        this.actions = new ActionHelper(testBase);
+    HomePage(PageRegistry pages) {
+        super(pages, "HomePage");
         //PageFactory.initElements(testBase.getDriver(), this);
-        verifyPageLoaded();
     }
 
-    private void verifyPageLoaded() throws IOException {
-        actions.waitForVisible(header, "Header section");
+    @Override
+    protected void verifyPageLoaded() throws IOException {
+        // One probe per poll reports the whole header instead of one wait per element
+        actions.waitForSnapshot(pageElements, "Home page", snapshot -> snapshot.get(header).isDisplayed());
     }
 
     public LoginPage clickLogin() throws IOException {
+        ensureLoaded();
         actions.scrollToElement(loginButton, "Login Button");
         actions.click(loginButton, "Login Button");
-        return new LoginPage(testBase);
+        return pages.navigatedTo(LoginPage.class);
     }
     
     public HomePage clickHome() throws IOException {
+        ensureLoaded();
     	actions.click(logo, "Header Logo");
-		return new HomePage(testBase);
+		return pages.navigatedTo(HomePage.class);
     }
     
-    public boolean isBannerPresent() {
+    public boolean isBannerPresent() throws IOException {
+        ensureLoaded();
     	actions.isElementDisplayed(banner, "Welcome Banner");
     	return true;
     }
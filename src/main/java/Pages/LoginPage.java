@@ -1,13 +1,12 @@
 package Pages;
 
 import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.openqa.selenium.By;
-import TestBase.TestBase;
-import Utils.ActionHelper;
+import Utils.ReadinessCriteria;
 
-public class LoginPage {
-    private final ActionHelper actions;
-    private final TestBase testBase;
+public class LoginPage extends BasePage {
     
     private static final By emailField = By.name("email");
     private static final By passwordField = By.name("password");
@@ -22,35 +21,47 @@ public class LoginPage {
 //    @FindBy(css = "input[type='email']") // More reliable CSS selector
 //    private WebElement loginBtn;
 
-    public LoginPage(TestBase testBase) throws IOException {
-        this.testBase = testBase;
-        this.actions = new ActionHelper(testBase);
+    LoginPage(PageRegistry pages) {
+        super(pages, "LoginPage");
         //PageFactory.initElements(testBase.getDriver(), this);
-        waitForPageReady();
     }
 
-    private void waitForPageReady() throws IOException {
+    @Override
+    protected void verifyPageLoaded() throws IOException {
         // Wait for both page state and element interactability
-        actions.waitForPageReadyState("LoginPage");
+        actions.waitForPageReady(ReadinessCriteria.forPage("LoginPage").element("input[name='email']"));
         //actions.waitForElementInteractable(emailField, "Email Field", Duration.ofSeconds(15));
     }
 
     public LoginPage enterEmail(String email) throws IOException {
+        ensureLoaded();
         actions.clearAndType(emailField, email, "Email Field");
         return this;
     }
     
     public LoginPage enterPsd(String password) throws IOException {
+        ensureLoaded();
         actions.clearAndType(passwordField, password, "Password Field");
         return this;
     }
+
+    public LoginPage enterCredentials(String email, String password) throws IOException {
+        ensureLoaded();
+        Map<By, String> fields = new LinkedHashMap<>();
+        fields.put(emailField, email);
+        fields.put(passwordField, password);
+        actions.fillForm(fields, "Login form");
+        return this;
+    }
     
     public MemberPage clickLogin() throws IOException {
+        ensureLoaded();
         actions.click(loginBtn, null);
-		return new MemberPage(testBase);
+		return pages.navigatedTo(MemberPage.class);
     }
     
-    public boolean isErrDisplayed() {
+    public boolean isErrDisplayed() throws IOException {
+        ensureLoaded();
 		actions.isElementDisplayed(errorMsg, "Error Message");
     	return true;
     	
@@ -1,33 +1,37 @@
 package Pages;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import org.openqa.selenium.By;
 
-import TestBase.TestBase;
-import Utils.ActionHelper;
 import Utils.ExtentReportManager;
+import Utils.PageSnapshot;
+import Utils.ReadinessCriteria;
 
-public class MemberPage {
-    private final ActionHelper actions;
-    private final TestBase testBase;
+public class MemberPage extends BasePage {
     private static final By WELCOME_BANNER = By.xpath("//*[@id=\"__next\"]/main/div/main/div/div/div");
     private static final By createNew = By.xpath("//*[@id=\"__next\"]/main/div/main/div/div/div/a");
     
-    public MemberPage(TestBase testBase) throws IOException {
-        this.testBase = testBase;
-    	this.actions = new ActionHelper(testBase);
-        verifyPageLoaded();
+    MemberPage(PageRegistry pages) {
+        super(pages, "MemberPage");
     }
 
-    private void verifyPageLoaded() throws IOException {
-        actions.waitForPageReadyState("MemberPage");
+    @Override
+    protected void verifyPageLoaded() throws IOException {
+        // Dashboard content arrives through client-side fetches after the route change
+        actions.waitForPageReady(ReadinessCriteria.forPage("MemberPage").networkIdle(true));
         ExtentReportManager.logInfo("Member dashboard loaded successfully");
     }
 
     public boolean isWelcomeBannerDisplayed() {
         try {
-            boolean isVisible = actions.isElementDisplayed(WELCOME_BANNER, "Welcome Banner");
+            ensureLoaded();
+            PageSnapshot.ElementState banner = actions.probe(Collections.singletonList(WELCOME_BANNER)).get(WELCOME_BANNER);
+            if(!banner.isPresent()) {
+                ExtentReportManager.logWarning("Welcome Banner not found when checking visibility", "Welcome Banner");
+            }
+            boolean isVisible = banner.isDisplayed();
             if(isVisible) {
                 ExtentReportManager.logPass("Welcome banner is displayed", null);
             }
@@ -39,8 +43,9 @@ public class MemberPage {
     }
     
     public OrgPage clickCreateNewOrg() throws IOException {
+        ensureLoaded();
     	actions.click(createNew, "Create new Organization");
-    	return new OrgPage(testBase);
+    	return pages.navigatedTo(OrgPage.class);
     }
 
 //    public ProfilePage navigateToProfile() {
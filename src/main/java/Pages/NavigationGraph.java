@@ -0,0 +1,257 @@
+package Pages;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import Utils.ConfigReader;
+import Utils.ExtentReportManager;
+import Utils.PasswordManager;
+import Utils.SessionStateCache;
+
+/**
+ * Declarative navigation graph of the application, injected per scenario by PicoContainer.
+ * Each page declares its deep-link URL (config key, may be unset) and whether it needs a
+ * signed-in user; edges are the UI transitions between pages with a rough cost in browser
+ * round trips. goTo() takes the cheapest route from the current page: usually the deep link,
+ * with cached session state injected for authenticated pages. The UI route is walked when it
+ * is cheaper, when no deep link exists, or when the scenario is tagged @ui-navigation
+ * because it is testing the navigation itself.
+ */
+public class NavigationGraph {
+    private static final int URL_COST = 1;
+    private static final int RESTORE_SESSION_COST = 1;
+    private static final int UNREACHABLE = 1_000_000;
+    private static final Class<? extends BasePage> LANDING_PAGE = HomePage.class;
+    private static final Class<? extends BasePage> SIGNED_IN_PAGE = MemberPage.class;
+
+    private static final Map<String, Node> nodesByName = new HashMap<>();
+    private static final Map<Class<? extends BasePage>, Node> nodes = new LinkedHashMap<>();
+    private static final ThreadLocal<Boolean> uiOnly = ThreadLocal.withInitial(() -> false);
+
+    static {
+        page(HomePage.class, "url", false, "homepage", "home", "landing");
+        page(LoginPage.class, "login.url", false, "login");
+        page(MemberPage.class, "dashboard.url", true, "dashboard", "member");
+        page(OrgPage.class, "org.url", true, "org", "create organization");
+
+        transition(HomePage.class, LoginPage.class, 2, (home, user) -> home.clickLogin());
+        transition(LoginPage.class, MemberPage.class, 4, (login, user) -> {
+            MemberPage member = login
+                .enterCredentials(ConfigReader.getProperty(user + ".username"),
+                    PasswordManager.decrypt(ConfigReader.getProperty(user + ".password")))
+                .clickLogin();
+            // Wait for the login to complete, SessionStateCache captures the session right after
+            member.ensureLoaded();
+            return member;
+        });
+        transition(MemberPage.class, OrgPage.class, 2, (member, user) -> member.clickCreateNewOrg());
+    }
+
+    private final PageRegistry pages;
+
+    public NavigationGraph(PageRegistry pages) {
+        this.pages = pages;
+    }
+
+    /**
+     * Forces UI routes for the current scenario (scenarios that test navigation)
+     */
+    public static void setUiOnly(boolean value) {
+        uiOnly.set(value);
+    }
+
+    /**
+     * Brings the browser to a page by the cheapest route and waits until it is ready
+     * @param pageName Logical page name, e.g. "homepage" or "dashboard"
+     * @param user Config user (user.username/user.password) for pages behind a login
+     * @return The ready page
+     * @throws IOException
+     */
+    public BasePage goTo(String pageName, String user) throws IOException {
+        Node target = nodesByName.get(pageName.toLowerCase());
+        if (target == null) {
+            throw new IllegalArgumentException("Unknown page: " + pageName);
+        }
+        Class<? extends BasePage> current = pages.getCurrent() != null ? pages.getCurrent() : LANDING_PAGE;
+        boolean needsSignIn = target.requiresAuth && !nodes.get(current).requiresAuth;
+        int signInCost = needsSignIn ? signInCost(user) : 0;
+
+        Route uiRoute = cheapestUiRoute(current, target.page);
+        Route afterSignIn = needsSignIn ? cheapestUiRoute(SIGNED_IN_PAGE, target.page) : null;
+        int uiCost = uiRoute != null ? uiRoute.cost : UNREACHABLE;
+        int linkCost = target.urlKey() != null ? URL_COST + signInCost : UNREACHABLE;
+        int signInThenUiCost = afterSignIn != null ? signInCost + afterSignIn.cost : UNREACHABLE;
+
+        if (current == target.page) {
+            ExtentReportManager.logInfo("Already on " + pageName);
+        } else if (uiOnly.get()) {
+            if (uiRoute == null) {
+                throw new IllegalStateException("No UI route from " + current.getSimpleName() + " to " + pageName);
+            }
+            walk(uiRoute, user, pageName);
+        } else if (Math.min(linkCost, Math.min(signInThenUiCost, uiCost)) >= UNREACHABLE) {
+            throw new IllegalStateException("No route from " + current.getSimpleName() + " to " + pageName);
+        } else if (linkCost <= signInThenUiCost && linkCost <= uiCost) {
+            ExtentReportManager.logInfo("Navigating to " + pageName + " by deep link");
+            if (needsSignIn) signIn(user);
+            if (target.page != SIGNED_IN_PAGE || !needsSignIn) {
+                String url = ConfigReader.getProperty(target.urlKey());
+                if (!url.equals(pages.driver().getCurrentUrl())) pages.actions().navigateTo(url);
+                pages.invalidateAll();
+            }
+        } else if (signInThenUiCost <= uiCost) {
+            signIn(user);
+            walk(afterSignIn, user, pageName);
+        } else {
+            walk(uiRoute, user, pageName);
+        }
+        BasePage page = pages.getCurrent() == target.page ? pages.get(target.page) : pages.navigatedTo(target.page);
+        page.ensureLoaded();
+        return page;
+    }
+
+    private int signInCost(String user) {
+        if (SessionStateCache.isRestorable(user)) return RESTORE_SESSION_COST;
+        Route login = cheapestUiRoute(LANDING_PAGE, SIGNED_IN_PAGE);
+        return login != null ? URL_COST + login.cost : UNREACHABLE;
+    }
+
+    /**
+     * Signs in from cached session state, or through the UI once, and lands on the signed-in page
+     */
+    private void signIn(String user) throws IOException {
+        SessionStateCache.signIn(pages.driver(), user, () -> {
+            if (pages.getCurrent() != null && pages.getCurrent() != LANDING_PAGE) {
+                pages.actions().navigateTo(ConfigReader.getProperty("url"));
+                pages.navigatedTo(LANDING_PAGE);
+            }
+            walk(cheapestUiRoute(LANDING_PAGE, SIGNED_IN_PAGE), user, "sign-in");
+        });
+        pages.invalidateAll();
+        pages.navigatedTo(SIGNED_IN_PAGE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void walk(Route route, String user, String purpose) throws IOException {
+        if (!route.edges.isEmpty()) {
+            ExtentReportManager.logInfo("Navigating to " + purpose + " through the UI: " + route);
+        }
+        for (Edge edge : route.edges) {
+            ((Transition<BasePage>) edge.transition).walk(pages.get(edge.from), user);
+        }
+    }
+
+    /**
+     * Dijkstra over the UI transitions
+     * @return Cheapest route, null if the target cannot be reached through the UI
+     */
+    private static Route cheapestUiRoute(Class<? extends BasePage> from, Class<? extends BasePage> to) {
+        if (from == to) return new Route(Collections.<Edge>emptyList(), 0);
+        Map<Class<? extends BasePage>, Route> best = new HashMap<>();
+        PriorityQueue<Route> queue = new PriorityQueue<>((a, b) -> Integer.compare(a.cost, b.cost));
+        queue.add(new Route(Collections.<Edge>emptyList(), 0));
+        best.put(from, queue.peek());
+        while (!queue.isEmpty()) {
+            Route route = queue.poll();
+            Class<? extends BasePage> at = route.edges.isEmpty() ? from : route.edges.get(route.edges.size() - 1).to;
+            if (at == to) return route;
+            if (route != best.get(at)) continue;
+            for (Edge edge : nodes.get(at).edges) {
+                Route next = route.then(edge);
+                Route known = best.get(edge.to);
+                if (known == null || next.cost < known.cost) {
+                    best.put(edge.to, next);
+                    queue.add(next);
+                }
+            }
+        }
+        return null;
+    }
+
+    // Graph Declaration ///////////////////////////////////////////////////////
+
+    private static void page(Class<? extends BasePage> page, String urlKey, boolean requiresAuth, String... names) {
+        Node node = new Node(page, urlKey, requiresAuth);
+        nodes.put(page, node);
+        for (String name : names) nodesByName.put(name, node);
+    }
+
+    private static <F extends BasePage> void transition(Class<F> from, Class<? extends BasePage> to, int cost,
+                                                         Transition<F> transition) {
+        nodes.get(from).edges.add(new Edge(from, to, cost, transition));
+    }
+
+    /**
+     * UI action leading from one page to the next
+     */
+    @FunctionalInterface
+    private interface Transition<F extends BasePage> {
+        BasePage walk(F from, String user) throws IOException;
+    }
+
+    private static class Node {
+        private final Class<? extends BasePage> page;
+        private final String urlKey;
+        private final boolean requiresAuth;
+        private final List<Edge> edges = new ArrayList<>();
+
+        private Node(Class<? extends BasePage> page, String urlKey, boolean requiresAuth) {
+            this.page = page;
+            this.urlKey = urlKey;
+            this.requiresAuth = requiresAuth;
+        }
+
+        /**
+         * @return Config key of the deep link, null if the page has none configured
+         */
+        private String urlKey() {
+            return ConfigReader.getProperty(urlKey, "").isEmpty() ? null : urlKey;
+        }
+    }
+
+    private static class Edge {
+        private final Class<? extends BasePage> from;
+        private final Class<? extends BasePage> to;
+        private final int cost;
+        private final Transition<?> transition;
+
+        private Edge(Class<? extends BasePage> from, Class<? extends BasePage> to, int cost, Transition<?> transition) {
+            this.from = from;
+            this.to = to;
+            this.cost = cost;
+            this.transition = transition;
+        }
+    }
+
+    private static class Route {
+        private final List<Edge> edges;
+        private final int cost;
+
+        private Route(List<Edge> edges, int cost) {
+            this.edges = edges;
+            this.cost = cost;
+        }
+
+        private Route then(Edge edge) {
+            List<Edge> extended = new ArrayList<>(edges);
+            extended.add(edge);
+            return new Route(extended, cost + edge.cost);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder path = new StringBuilder();
+            for (Edge edge : edges) {
+                if (path.length() == 0) path.append(edge.from.getSimpleName());
+                path.append(" -> ").append(edge.to.getSimpleName());
+            }
+            return path.toString();
+        }
+    }
+}
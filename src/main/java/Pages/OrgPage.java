@@ -1,37 +1,36 @@
 package Pages;
 
 import java.io.IOException;
+import java.util.Collections;
 
 import org.openqa.selenium.By;
 
-import TestBase.TestBase;
-import Utils.ActionHelper;
 import Utils.ExtentReportManager;
+import Utils.ReadinessCriteria;
 
-public class OrgPage {
-	private final ActionHelper actions;
-	private final TestBase testBase;
+public class OrgPage extends BasePage {
 	private static final By orgName = By.name("name");
     private static final By createBtn = By.xpath("//*[@id=\"__next\"]/main/div/main/div/div/div/form/button/span");
     
-    public OrgPage(TestBase testBase) throws IOException {
-        this.testBase = testBase;
-    	this.actions = new ActionHelper(testBase);
-		verifyPageLoaded();
+    OrgPage(PageRegistry pages) {
+        super(pages, "OrgPage");
     }
 
-    private void verifyPageLoaded() throws IOException {
-        actions.waitForPageReadyState("MemberPage");
-        ExtentReportManager.logInfo("Member dashboard loaded successfully");
+    @Override
+    protected void verifyPageLoaded() throws IOException {
+        actions.waitForPageReady(ReadinessCriteria.forPage("OrgPage").element("input[name='name']"));
+        ExtentReportManager.logInfo("Create organization form loaded successfully");
     }
     
     public OrgPage provideName(String name) throws IOException {
-    	actions.clearAndType(orgName, "TestOrg", "Create Org");
+        ensureLoaded();
+    	actions.fillForm(Collections.singletonMap(orgName, "TestOrg"), "Create Org");
     	ExtentReportManager.logInfo("Provided name and clicked create.");
     	return this;
     }
     
     public OrgPage clickCreateBtn() throws IOException {
+        ensureLoaded();
     	actions.click(createBtn, "Create Btn");
     	ExtentReportManager.logInfo("Clicked the Create new Organization button.");
     	return this;
@@ -0,0 +1,85 @@
+package Pages;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openqa.selenium.WebDriver;
+
+import TestBase.TestBase;
+import Utils.ActionHelper;
+
+/**
+ * Scenario-scoped registry of page objects, injected into step classes by PicoContainer.
+ * Each page class is created at most once per scenario and every page shares the same
+ * ActionHelper. Pages verify themselves lazily on their first interaction after being
+ * navigated to, so pages that are only handed around never run a ready-check.
+ */
+public class PageRegistry {
+    private final TestBase testBase;
+    private final Map<Class<? extends BasePage>, BasePage> pages = new ConcurrentHashMap<>();
+    private volatile ActionHelper actions;
+    private volatile Class<? extends BasePage> current;
+
+    public PageRegistry(TestBase testBase) {
+        this.testBase = testBase;
+    }
+
+    /**
+     * @return Cached page, created on first request; its verification state is unchanged
+     */
+    public <T extends BasePage> T get(Class<T> pageType) {
+        return pageType.cast(pages.computeIfAbsent(pageType, this::create));
+    }
+
+    /**
+     * Returns the cached page after a transition to it; its ready-check runs again on first use
+     * @param pageType Page the browser is navigating to
+     * @return Cached page
+     */
+    public <T extends BasePage> T navigatedTo(Class<T> pageType) {
+        T page = get(pageType);
+        page.expectNavigation();
+        current = pageType;
+        return page;
+    }
+
+    /**
+     * @return Page the browser was last navigated to, null before the first transition
+     */
+    public Class<? extends BasePage> getCurrent() {
+        return current;
+    }
+
+    /**
+     * Marks every cached page for re-verification, e.g. after a direct URL navigation
+     */
+    public void invalidateAll() {
+        for (BasePage page : pages.values()) {
+            page.expectNavigation();
+        }
+    }
+
+    /**
+     * @return ActionHelper shared by every page of the scenario, created once the browser is up
+     */
+    ActionHelper actions() {
+        if (actions == null) {
+            synchronized (this) {
+                if (actions == null) actions = new ActionHelper(testBase);
+            }
+        }
+        return actions;
+    }
+
+    WebDriver driver() {
+        return testBase.getDriver();
+    }
+
+    private BasePage create(Class<? extends BasePage> pageType) {
+        try {
+            return pageType.getDeclaredConstructor(PageRegistry.class).newInstance(this);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create page " + pageType.getSimpleName(), e);
+        }
+    }
+}
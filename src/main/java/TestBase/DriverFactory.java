@@ -0,0 +1,243 @@
+package TestBase;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import Utils.ConfigReader;
+import Utils.ElementCache;
+import Utils.ImplicitWaits;
+import Utils.PageReadinessEngine;
+import Utils.ScreenshotStore;
+import Utils.SessionCircuitBreaker;
+import Utils.StepEvidence;
+
+/**
+ * Creates and configures raw WebDriver sessions, locally or on a remote grid.
+ * Used by the session pool; tests should go through TestBase instead.
+ */
+public class DriverFactory {
+    private static final int DEFAULT_TIMEOUT = 15;
+
+    // Private constructor to prevent instantiation
+    private DriverFactory() {}
+
+    /**
+     * Launches a new browser session with the configured timeouts applied
+     * @param browser Browser type (chrome, firefox, or replay for a recorded session)
+     * @param headless Whether to run without a visible window
+     * @return Ready-to-use WebDriver
+     */
+    public static WebDriver create(String browser, boolean headless) {
+        ResourceGovernor.awaitLaunchSlot();
+        WebDriver webDriver;
+        try {
+            webDriver = launch(browser, headless);
+        } catch (SessionNotCreatedException e) {
+            if (isRemoteExecution()) throw e;
+            // Pinned driver no longer matches the installed browser, re-resolve once
+            DriverProvisioner.invalidate(browser);
+            webDriver = launch(browser, headless);
+        }
+        try {
+            if (WireRecorder.isEnabled() && !(webDriver instanceof ReplayDriver)) {
+                WireRecorder.attach(webDriver);
+            }
+            configureBrowserSettings(webDriver);
+            NetworkProfiles.apply(webDriver);
+            installReadinessProbe(webDriver);
+        } catch (RuntimeException e) {
+            // The browser is already running; nobody else holds it to quit it later
+            quit(webDriver);
+            throw e;
+        }
+        return webDriver;
+    }
+
+    /**
+     * Launches a session only if ResourceGovernor has capacity for another local browser.
+     * Remote sessions are not governed here; GridSlotTracker queues them instead.
+     * @param browser Browser type (chrome, firefox)
+     * @param headless Whether to run without a visible window
+     * @param permitWaitMillis How long to wait for capacity
+     * @return New session, or null if no capacity freed up in time
+     */
+    public static WebDriver tryCreate(String browser, boolean headless, long permitWaitMillis) {
+        if (isRemoteExecution()) {
+            return create(browser, headless);
+        }
+        if (!ResourceGovernor.tryAcquireSession(permitWaitMillis)) {
+            return null;
+        }
+        try {
+            WebDriver webDriver = create(browser, headless);
+            ResourceGovernor.track(webDriver);
+            return webDriver;
+        } catch (RuntimeException e) {
+            ResourceGovernor.releaseSession();
+            throw e;
+        }
+    }
+
+    /**
+     * Quits a session and releases any grid slot or host capacity it held
+     * @param webDriver Session created by this factory
+     */
+    public static void quit(WebDriver webDriver) {
+        try {
+            webDriver.quit();
+        } catch (Exception e) {
+            System.err.println("WARNING: Failed to quit browser session: " + e.getMessage());
+        } finally {
+            GridSlotTracker.untrack(webDriver);
+            ResourceGovernor.untrack(webDriver);
+            NetworkProfiles.detach(webDriver);
+            ElementCache.detach(webDriver);
+            SessionCircuitBreaker.detach(webDriver);
+            ScreenshotStore.detach(webDriver);
+            StepEvidence.detach(webDriver);
+        }
+    }
+
+    private static WebDriver launch(String browser, boolean headless) {
+        if ("replay".equals(browser)) {
+            return ReplayDriver.start();
+        }
+        if (isRemoteExecution()) {
+            return createRemote(browser, headless);
+        }
+        switch(browser) {
+            case "chrome":
+                return createChrome(headless);
+            case "firefox":
+                return createFirefox(headless);
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+    }
+
+    private static ChromeOptions chromeOptions(boolean headless) {
+        ChromeOptions options = new ChromeOptions();
+        if(headless) options.addArguments("--headless=new");
+        options.addArguments("--disable-notifications");
+        return options;
+    }
+
+    private static FirefoxOptions firefoxOptions(boolean headless) {
+        FirefoxOptions options = new FirefoxOptions();
+        if(headless) options.addArguments("-headless");
+        return options;
+    }
+
+    private static WebDriver createChrome(boolean headless) {
+        DriverProvisioner.DriverBinaries binaries = DriverProvisioner.resolve("chrome");
+        ChromeOptions options = chromeOptions(headless);
+        if (binaries.getBrowserPath() != null) options.setBinary(binaries.getBrowserPath());
+
+        ChromeDriverService service = new ChromeDriverService.Builder()
+            .usingDriverExecutable(new File(binaries.getDriverPath()))
+            .build();
+        return new ChromeDriver(service, options);
+    }
+
+    private static WebDriver createFirefox(boolean headless) {
+        DriverProvisioner.DriverBinaries binaries = DriverProvisioner.resolve("firefox");
+        FirefoxOptions options = firefoxOptions(headless);
+        if (binaries.getBrowserPath() != null) options.setBinary(binaries.getBrowserPath());
+
+        GeckoDriverService service = new GeckoDriverService.Builder()
+            .usingDriverExecutable(new File(binaries.getDriverPath()))
+            .build();
+        return new FirefoxDriver(service, options);
+    }
+
+    /**
+     * Creates a RemoteWebDriver on the configured hub, queueing for a free slot first
+     */
+    private static WebDriver createRemote(String browser, boolean headless) {
+        AbstractDriverOptions<?> options;
+        switch(browser) {
+            case "chrome":
+                options = chromeOptions(headless);
+                break;
+            case "firefox":
+                options = firefoxOptions(headless);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+
+        URL hubUrl = getHubUrl();
+        String browserName = options.getBrowserName();
+        GridSlotTracker.acquire(hubUrl, browserName);
+        RemoteWebDriver webDriver;
+        try {
+            webDriver = new RemoteWebDriver(hubUrl, options);
+        } catch (RuntimeException e) {
+            GridSlotTracker.release(browserName);
+            throw e;
+        }
+        GridSlotTracker.track(webDriver, browserName);
+        return webDriver;
+    }
+
+    /**
+     * @return true if sessions are created on the grid at hub.url (remote=true)
+     */
+    static boolean isRemoteExecution() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("remote", "false"));
+    }
+
+    private static URL getHubUrl() {
+        String hubUrl = ConfigReader.getProperty("hub.url", "http://localhost:4444");
+        try {
+            return new URL(hubUrl);
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid hub.url: " + hubUrl, e);
+        }
+    }
+
+    private static void configureBrowserSettings(WebDriver webDriver) {
+        webDriver.manage().window().maximize();
+        webDriver.manage().timeouts()
+            .implicitlyWait(getImplicitWait())
+            .pageLoadTimeout(getPageLoadTimeout());
+    }
+
+    /**
+     * Registers the readiness probe for every new document so fetch/XHR and route
+     * tracking starts before the application's own scripts. Other drivers get the
+     * probe injected lazily by PageReadinessEngine.
+     */
+    private static void installReadinessProbe(WebDriver webDriver) {
+        if (webDriver instanceof HasCdp) {
+            ((HasCdp) webDriver).executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                Collections.<String, Object>singletonMap("source", PageReadinessEngine.PROBE_SCRIPT));
+        }
+    }
+
+    /**
+     * Zero when waits.explicit.only=true, so lookups of absent elements never block
+     */
+    private static Duration getImplicitWait() {
+        return ImplicitWaits.configured();
+    }
+
+    private static Duration getPageLoadTimeout() {
+        return Duration.ofSeconds(
+            Integer.parseInt(ConfigReader.getProperty("timeout.pageload", String.valueOf(DEFAULT_TIMEOUT * 2)))
+        );
+    }
+}
@@ -0,0 +1,261 @@
+package TestBase;
+
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import Utils.ConfigReader;
+import Utils.ElementCache;
+import Utils.SessionCircuitBreaker;
+
+/**
+ * Per-browser-type pool of live WebDriver sessions.
+ * A scenario leases a session on setup and releases it on teardown; released
+ * sessions are reset (storage, cookies, extra windows) and parked for the next
+ * scenario instead of being quit. Sessions are recycled after a configurable
+ * number of scenarios or when they fail a health check. When no idle session is
+ * available a warm one is taken from SessionPreLauncher before launching in-line.
+ */
+public class DriverPool {
+    private static final Map<String, Deque<PooledSession>> idleSessions = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, PooledSession> leasedSessions = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown));
+    }
+
+    // Private constructor to prevent instantiation
+    private DriverPool() {}
+
+    private static final long GOVERNOR_POLL_MILLIS = 250;
+
+    /**
+     * Leases a live session for the calling scenario, launching one if none is idle.
+     * When ResourceGovernor has no capacity left the caller queues here until a session
+     * is released, a warm one becomes available or a permit frees up, for at most
+     * session.lease.timeout seconds.
+     * @param browser Browser type (chrome, firefox)
+     * @param headless Whether to run without a visible window
+     * @return WebDriver owned by the caller until release()
+     * @throws SessionNotCreatedException if no session becomes available within the lease timeout
+     */
+    public static WebDriver lease(String browser, boolean headless) {
+        long leaseStart = System.nanoTime();
+        long timeoutSeconds = Long.parseLong(ConfigReader.getProperty("session.lease.timeout", "600"));
+        long deadline = leaseStart + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        String key = poolKey(browser, headless);
+        boolean queued = false;
+
+        while (true) {
+            if (isPoolingEnabled()) {
+                PooledSession session;
+                while ((session = idleQueue(key).pollFirst()) != null) {
+                    if (isHealthy(session.driver)) {
+                        leasedSessions.put(session.driver, session);
+                        SessionMetrics.recordLease(SessionMetrics.LeaseSource.POOL, leaseStart);
+                        return session.driver;
+                    }
+                    retire(session);
+                }
+            }
+
+            WebDriver warm = SessionPreLauncher.poll(browser, headless);
+            if (warm != null) {
+                PooledSession session = new PooledSession(key, browser, headless, warm);
+                session.preNavigated = true;
+                leasedSessions.put(warm, session);
+                SessionMetrics.recordLease(SessionMetrics.LeaseSource.BUFFER, leaseStart);
+                return warm;
+            }
+
+            WebDriver launched = DriverFactory.tryCreate(browser, headless, GOVERNOR_POLL_MILLIS);
+            if (launched != null) {
+                PooledSession fresh = new PooledSession(key, browser, headless, launched);
+                leasedSessions.put(fresh.driver, fresh);
+                SessionMetrics.recordLease(SessionMetrics.LeaseSource.INLINE, leaseStart);
+                return fresh.driver;
+            }
+
+            if (System.nanoTime() > deadline) {
+                throw new SessionNotCreatedException("No " + browser + " session within " + timeoutSeconds
+                    + "s: " + governorState());
+            }
+            if (!queued) {
+                queued = true;
+                System.err.println("WARNING: Waiting for a browser slot: " + governorState());
+            }
+            // Idle sessions of another browser type only hold capacity, give it back
+            retireIdleExcept(key);
+        }
+    }
+
+    /**
+     * Reports whether a leased session is already sitting on the base URL
+     * (pre-launched sessions are), so the caller can skip the initial navigation
+     * @param webDriver Leased session
+     * @return true if no navigation to the base URL is needed
+     */
+    public static boolean isPreNavigated(WebDriver webDriver) {
+        PooledSession session = leasedSessions.get(webDriver);
+        return session != null && session.preNavigated;
+    }
+
+    /**
+     * Returns a session to the pool, resetting it for reuse or quitting it if it is
+     * due for recycling or no longer healthy
+     * @param webDriver Session previously obtained from lease()
+     */
+    public static void release(WebDriver webDriver) {
+        PooledSession session = leasedSessions.remove(webDriver);
+        if (session == null) {
+            DriverFactory.quit(webDriver);
+            return;
+        }
+        session.scenarios++;
+        session.preNavigated = false;
+        // A lost session cannot be reset; resetting it would only wait out command timeouts
+        if (!isPoolingEnabled() || session.scenarios >= getMaxScenarios() || SessionCircuitBreaker.isOpen(webDriver)) {
+            retire(session);
+            return;
+        }
+        try {
+            reset(session.driver);
+            idleQueue(session.key).offerFirst(session);
+        } catch (Exception e) {
+            retire(session);
+        }
+    }
+
+    /**
+     * Quits every pooled and leased session. Safe to call more than once.
+     */
+    public static void shutdown() {
+        SessionPreLauncher.shutdown();
+        for (Deque<PooledSession> queue : idleSessions.values()) {
+            PooledSession session;
+            while ((session = queue.pollFirst()) != null) {
+                retire(session);
+            }
+        }
+        for (PooledSession session : leasedSessions.values()) {
+            leasedSessions.remove(session.driver);
+            retire(session);
+        }
+    }
+
+    // Session Lifecycle ///////////////////////////////////////////////////////
+
+    /**
+     * Clears all scenario state so the next lease starts from a clean browser
+     */
+    private static void reset(WebDriver webDriver) {
+        ElementCache.detach(webDriver);
+        Set<String> handles = webDriver.getWindowHandles();
+        String keep = handles.iterator().next();
+        if (handles.size() > 1) {
+            for (String handle : handles) {
+                if (!handle.equals(keep)) {
+                    webDriver.switchTo().window(handle);
+                    webDriver.close();
+                }
+            }
+        }
+        webDriver.switchTo().window(keep);
+
+        ((JavascriptExecutor) webDriver).executeScript(
+            "try { window.localStorage.clear(); } catch (e) {}" +
+            "try { window.sessionStorage.clear(); } catch (e) {}"
+        );
+        // deleteAllCookies() only covers the current domain, CDP clears every domain
+        if (webDriver instanceof HasCdp) {
+            ((HasCdp) webDriver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        } else {
+            webDriver.manage().deleteAllCookies();
+        }
+        webDriver.get("about:blank");
+    }
+
+    private static void retireIdleExcept(String key) {
+        for (Map.Entry<String, Deque<PooledSession>> entry : idleSessions.entrySet()) {
+            if (entry.getKey().equals(key)) continue;
+            PooledSession session = entry.getValue().pollLast();
+            if (session != null) {
+                retire(session);
+                return;
+            }
+        }
+    }
+
+    private static boolean isHealthy(WebDriver webDriver) {
+        try {
+            return webDriver.getWindowHandle() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void retire(PooledSession session) {
+        DriverFactory.quit(session.driver);
+        SessionPreLauncher.refill(session.browser, session.headless);
+    }
+
+    // Configuration ///////////////////////////////////////////////////////////
+
+    private static Deque<PooledSession> idleQueue(String key) {
+        return idleSessions.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+    }
+
+    static String poolKey(String browser, boolean headless) {
+        return headless ? browser + ":headless" : browser;
+    }
+
+    /**
+     * @return Number of leased plus idle sessions for the given pool key
+     */
+    static int liveSessions(String key) {
+        int live = idleQueue(key).size();
+        for (PooledSession session : leasedSessions.values()) {
+            if (session.key.equals(key)) live++;
+        }
+        return live;
+    }
+
+    private static boolean isPoolingEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("session.pool.enabled", "true"));
+    }
+
+    private static String governorState() {
+        return ResourceGovernor.getLiveSessions() + " of " + ResourceGovernor.getMaxSessions()
+            + " sessions in use, " + leasedSessions.size() + " leased";
+    }
+
+    private static int getMaxScenarios() {
+        return Integer.parseInt(ConfigReader.getProperty("session.pool.max.scenarios", "25"));
+    }
+
+    /**
+     * Live browser session plus the bookkeeping needed to decide when to recycle it
+     */
+    private static class PooledSession {
+        private final String key;
+        private final String browser;
+        private final boolean headless;
+        private final WebDriver driver;
+        private int scenarios;
+        private boolean preNavigated;
+
+        private PooledSession(String key, String browser, boolean headless, WebDriver driver) {
+            this.key = key;
+            this.browser = browser;
+            this.headless = headless;
+            this.driver = driver;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package TestBase;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import Utils.ConfigReader;
+
+/**
+ * Resolves driver and browser binary paths once per JVM.
+ * Resolved paths are pinned in a local manifest file so later runs start with zero
+ * network access; WebDriverManager is only used when the manifest has no usable entry.
+ * Delete the manifest (or call invalidate) after a browser upgrade to re-resolve.
+ */
+public class DriverProvisioner {
+    private static final String DEFAULT_MANIFEST = "drivers/driver-manifest.properties";
+    private static final Map<String, DriverBinaries> resolved = new ConcurrentHashMap<>();
+    private static final Object manifestLock = new Object();
+
+    // Private constructor to prevent instantiation
+    private DriverProvisioner() {}
+
+    /**
+     * Returns the pinned binaries for a browser, resolving them on first use only
+     * @param browser Browser type (chrome, firefox)
+     * @return Driver executable and (optional) browser binary paths
+     */
+    public static DriverBinaries resolve(String browser) {
+        return resolved.computeIfAbsent(browser, DriverProvisioner::loadOrResolve);
+    }
+
+    /**
+     * Drops the pinned entry for a browser so the next resolve() goes back to WebDriverManager
+     * @param browser Browser type (chrome, firefox)
+     */
+    public static void invalidate(String browser) {
+        resolved.remove(browser);
+        synchronized (manifestLock) {
+            Properties manifest = readManifest();
+            manifest.remove(browser + ".driver");
+            manifest.remove(browser + ".binary");
+            writeManifest(manifest);
+        }
+    }
+
+    private static DriverBinaries loadOrResolve(String browser) {
+        synchronized (manifestLock) {
+            Properties manifest = readManifest();
+            String driverPath = manifest.getProperty(browser + ".driver");
+            if (driverPath != null && new File(driverPath).canExecute()) {
+                String browserPath = manifest.getProperty(browser + ".binary");
+                if (browserPath != null && !new File(browserPath).exists()) browserPath = null;
+                return new DriverBinaries(driverPath, browserPath);
+            }
+
+            DriverBinaries binaries = resolveWithWebDriverManager(browser);
+            manifest.setProperty(browser + ".driver", binaries.getDriverPath());
+            if (binaries.getBrowserPath() != null) {
+                manifest.setProperty(browser + ".binary", binaries.getBrowserPath());
+            } else {
+                manifest.remove(browser + ".binary");
+            }
+            writeManifest(manifest);
+            return binaries;
+        }
+    }
+
+    private static DriverBinaries resolveWithWebDriverManager(String browser) {
+        WebDriverManager manager;
+        switch(browser) {
+            case "chrome":
+                manager = WebDriverManager.chromedriver();
+                break;
+            case "firefox":
+                manager = WebDriverManager.firefoxdriver();
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browser);
+        }
+        manager.setup();
+        Optional<Path> browserPath = manager.getBrowserPath();
+        return new DriverBinaries(
+            manager.getDownloadedDriverPath(),
+            browserPath.isPresent() ? browserPath.get().toString() : null
+        );
+    }
+
+    // Manifest Handling ///////////////////////////////////////////////////////
+
+    private static File getManifestFile() {
+        return new File(ConfigReader.getProperty("driver.manifest", DEFAULT_MANIFEST));
+    }
+
+    private static Properties readManifest() {
+        Properties manifest = new Properties();
+        File file = getManifestFile();
+        if (file.exists()) {
+            try (InputStream input = new FileInputStream(file)) {
+                manifest.load(input);
+            } catch (Exception e) {
+                System.err.println("WARNING: Ignoring unreadable driver manifest: " + e.getMessage());
+            }
+        }
+        return manifest;
+    }
+
+    private static void writeManifest(Properties manifest) {
+        File file = getManifestFile();
+        if (file.getParentFile() != null) file.getParentFile().mkdirs();
+        try (OutputStream output = new FileOutputStream(file)) {
+            manifest.store(output, "Pinned driver and browser binaries");
+        } catch (Exception e) {
+            System.err.println("WARNING: Failed to write driver manifest: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolved driver executable and browser binary for one browser type
+     */
+    public static class DriverBinaries {
+        private final String driverPath;
+        private final String browserPath;
+
+        public DriverBinaries(String driverPath, String browserPath) {
+            this.driverPath = driverPath;
+            this.browserPath = browserPath;
+        }
+
+        public String getDriverPath() {
+            return driverPath;
+        }
+
+        /**
+         * @return Browser binary path or null to let the driver locate the browser
+         */
+        public String getBrowserPath() {
+            return browserPath;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package TestBase;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.IOUtils;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import Utils.ConfigReader;
+
+/**
+ * Capability-aware slot accounting for remote (grid/standalone) sessions.
+ * Slot capacity per browser name is read from the hub's /status endpoint; callers
+ * queue for a free slot here instead of failing on the grid's session-creation timeout.
+ */
+public class GridSlotTracker {
+    private static final Map<String, Semaphore> slotsByBrowser = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, String> heldSlots = new ConcurrentHashMap<>();
+    private static final Json JSON = new Json();
+
+    // Private constructor to prevent instantiation
+    private GridSlotTracker() {}
+
+    /**
+     * Blocks until both our own accounting and the hub report a free slot for the browser
+     * @param hubUrl Grid or standalone base URL
+     * @param browserName Capability browserName (chrome, firefox)
+     * @throws SessionNotCreatedException if no slot frees up within grid.slot.timeout
+     */
+    public static void acquire(URL hubUrl, String browserName) {
+        Semaphore slots = slotsByBrowser.computeIfAbsent(
+            browserName, b -> new Semaphore(Math.max(1, countSlots(hubUrl, b, false)), true)
+        );
+        long timeoutSeconds = Long.parseLong(ConfigReader.getProperty("grid.slot.timeout", "600"));
+        long pollMillis = Long.parseLong(ConfigReader.getProperty("grid.slot.poll.ms", "500"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        try {
+            if (!slots.tryAcquire(timeoutSeconds, TimeUnit.SECONDS)) {
+                throw new SessionNotCreatedException(
+                    "No free " + browserName + " slot within " + timeoutSeconds + "s");
+            }
+            // The hub may be shared with other clients, so confirm it also has a free slot
+            while (countSlots(hubUrl, browserName, true) == 0) {
+                if (System.nanoTime() > deadline) {
+                    slots.release();
+                    throw new SessionNotCreatedException(
+                        "Grid reported no free " + browserName + " slot within " + timeoutSeconds + "s");
+                }
+                Thread.sleep(pollMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for a grid slot", e);
+        }
+    }
+
+    /**
+     * Associates an acquired slot with the session that was created in it
+     */
+    public static void track(WebDriver webDriver, String browserName) {
+        heldSlots.put(webDriver, browserName);
+    }
+
+    /**
+     * Releases a slot that was acquired but never turned into a session
+     */
+    public static void release(String browserName) {
+        Semaphore slots = slotsByBrowser.get(browserName);
+        if (slots != null) slots.release();
+    }
+
+    /**
+     * Releases the slot held by a session once it has been quit; no-op for local sessions
+     */
+    public static void untrack(WebDriver webDriver) {
+        String browserName = heldSlots.remove(webDriver);
+        if (browserName != null) release(browserName);
+    }
+
+    /**
+     * Counts hub slots whose stereotype matches the browser name
+     * @param freeOnly Count only slots without an active session
+     * @return Slot count, or grid.max.sessions when the hub status cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    private static int countSlots(URL hubUrl, String browserName, boolean freeOnly) {
+        try {
+            Map<String, Object> status = JSON.toType(fetchStatus(hubUrl), Json.MAP_TYPE);
+            Map<String, Object> value = (Map<String, Object>) status.get("value");
+            int count = 0;
+            for (Object node : (List<Object>) value.get("nodes")) {
+                Map<String, Object> nodeInfo = (Map<String, Object>) node;
+                if (!"UP".equals(nodeInfo.get("availability"))) continue;
+                for (Object slot : (List<Object>) nodeInfo.get("slots")) {
+                    Map<String, Object> slotInfo = (Map<String, Object>) slot;
+                    Map<String, Object> stereotype = (Map<String, Object>) slotInfo.get("stereotype");
+                    if (!browserName.equalsIgnoreCase(String.valueOf(stereotype.get("browserName")))) continue;
+                    if (!freeOnly || slotInfo.get("session") == null) count++;
+                }
+            }
+            return count;
+        } catch (Exception e) {
+            System.err.println("WARNING: Could not read grid status: " + e.getMessage());
+            return Integer.parseInt(ConfigReader.getProperty("grid.max.sessions", "4"));
+        }
+    }
+
+    private static String fetchStatus(URL hubUrl) throws Exception {
+        String base = hubUrl.toString().replaceAll("/+$", "").replaceAll("/wd/hub$", "");
+        HttpURLConnection connection = (HttpURLConnection) new URL(base + "/status").openConnection();
+        connection.setConnectTimeout(5000);
+        connection.setReadTimeout(5000);
+        try (InputStream input = connection.getInputStream()) {
+            return IOUtils.toString(input, StandardCharsets.UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
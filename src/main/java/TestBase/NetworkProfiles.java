@@ -0,0 +1,226 @@
+package TestBase;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.devtools.v119.fetch.Fetch;
+import org.openqa.selenium.devtools.v119.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v119.fetch.model.RequestStage;
+import org.openqa.selenium.devtools.v119.network.Network;
+import org.openqa.selenium.devtools.v119.network.model.ErrorReason;
+import org.openqa.selenium.devtools.v119.network.model.RequestId;
+import org.openqa.selenium.devtools.v119.network.model.ResourceType;
+import Utils.ConfigReader;
+
+/**
+ * Applies CDP request-blocking profiles to Chromium sessions.
+ * Built-in profiles:
+ *  - full: nothing blocked
+ *  - no-media: images, media and fonts
+ *  - functional-only: no-media plus analytics and third-party tag URLs
+ * The run-wide profile is network.profile (config or -Dnetwork.profile, full by default);
+ * a scenario tagged @network-NAME uses profile NAME instead. Blocking images also strips them
+ * from screenshots and visual baselines, so keep it to scenarios that do not capture evidence.
+ * Override a profile with network.profile.NAME.types / network.profile.NAME.urls.
+ * Blocked requests are counted per scenario; bytes saved are estimated from the
+ * average transfer size observed for each resource type.
+ */
+public class NetworkProfiles {
+    private static final String DEFAULT_PROFILE = "full";
+    private static final String MEDIA_TYPES = "Image,Media,Font";
+    private static final String THIRD_PARTY_URLS =
+        "*google-analytics.com*,*googletagmanager.com*,*doubleclick.net*,*facebook.net*," +
+        "*hotjar.com*,*segment.io*,*intercom.io*,*clarity.ms*";
+
+    private static final Map<WebDriver, BlockingStats> statsByDriver = new ConcurrentHashMap<>();
+    // Profile requested by the current scenario's tag, null for the run-wide profile
+    private static final ThreadLocal<String> scenarioProfile = new ThreadLocal<>();
+    // Average transfer size per resource type, learned from requests that were not blocked
+    private static final Map<ResourceType, AtomicLong> observedBytes = new ConcurrentHashMap<>();
+    private static final Map<ResourceType, AtomicLong> observedCount = new ConcurrentHashMap<>();
+    private static final Map<ResourceType, Long> fallbackBytes = new EnumMap<>(ResourceType.class);
+
+    static {
+        fallbackBytes.put(ResourceType.IMAGE, 40_000L);
+        fallbackBytes.put(ResourceType.MEDIA, 500_000L);
+        fallbackBytes.put(ResourceType.FONT, 30_000L);
+        fallbackBytes.put(ResourceType.SCRIPT, 60_000L);
+    }
+
+    // Private constructor to prevent instantiation
+    private NetworkProfiles() {}
+
+    /**
+     * Enables the run-wide profile on a freshly created session.
+     * No-op for non-Chromium drivers (Firefox, remote) and for the full profile.
+     * @param webDriver New session
+     */
+    public static void apply(WebDriver webDriver) {
+        switchProfile(webDriver, runProfile());
+    }
+
+    /**
+     * Selects the profile for the scenario about to start on this thread
+     * @param profile Profile name, null for the run-wide profile
+     */
+    public static void setScenarioProfile(String profile) {
+        scenarioProfile.set(profile == null ? null : profile.toLowerCase());
+    }
+
+    /**
+     * Switches a leased session to the scenario's profile and resets its per-scenario counters
+     */
+    public static void startScenario(WebDriver webDriver) {
+        String profile = scenarioProfile.get();
+        switchProfile(webDriver, profile != null ? profile : runProfile());
+        BlockingStats stats = statsByDriver.get(webDriver);
+        if (stats != null) stats.reset();
+    }
+
+    /**
+     * @return Requests and estimated bytes saved since startScenario, or null if nothing is blocked
+     */
+    public static String scenarioSummary(WebDriver webDriver) {
+        BlockingStats stats = statsByDriver.get(webDriver);
+        if (stats == null || !stats.blocking) return null;
+        return String.format("Network profile '%s' blocked %d requests (~%d KB saved)",
+            stats.profile, stats.requests.get(), stats.estimatedBytes.get() / 1024);
+    }
+
+    /**
+     * Forgets a session that is being quit
+     */
+    public static void detach(WebDriver webDriver) {
+        statsByDriver.remove(webDriver);
+    }
+
+    private static String runProfile() {
+        return System.getProperty("network.profile",
+            ConfigReader.getProperty("network.profile", DEFAULT_PROFILE)).trim().toLowerCase();
+    }
+
+    /**
+     * Points the session's request interception at a profile. Listeners are installed the
+     * first time a session needs blocking; a later full profile only disables interception.
+     */
+    private static void switchProfile(WebDriver webDriver, String profile) {
+        // Firefox has DevTools too, but only through BiDi; the v119 Fetch domain is Chromium-only
+        if (!(webDriver instanceof HasCdp) || !(webDriver instanceof HasDevTools)) return;
+        BlockingStats stats = statsByDriver.get(webDriver);
+        if (stats != null && stats.profile.equals(profile)) return;
+
+        List<RequestPattern> patterns = buildPatterns(profile);
+        if (stats == null && patterns.isEmpty()) return;
+
+        DevTools devTools = ((HasDevTools) webDriver).getDevTools();
+        if (stats == null) {
+            stats = new BlockingStats();
+            statsByDriver.put(webDriver, stats);
+            listen(devTools, stats);
+        }
+        stats.profile = profile;
+        stats.blocking = !patterns.isEmpty();
+        if (stats.blocking) {
+            // Only requests matching a blocking pattern are paused, so every paused request is failed
+            devTools.send(Fetch.enable(Optional.of(patterns), Optional.of(false)));
+        } else {
+            devTools.send(Fetch.disable());
+        }
+    }
+
+    private static void listen(DevTools devTools, BlockingStats stats) {
+        devTools.createSessionIfThereIsNotOne();
+
+        // Network events only feed the per-type transfer size averages
+        Map<RequestId, ResourceType> responseTypes = new ConcurrentHashMap<>();
+        devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+        devTools.addListener(Network.responseReceived(),
+            response -> responseTypes.put(response.getRequestId(), response.getType()));
+        devTools.addListener(Network.loadingFinished(), finished -> {
+            ResourceType type = responseTypes.remove(finished.getRequestId());
+            if (type != null) {
+                observedBytes.computeIfAbsent(type, t -> new AtomicLong())
+                    .addAndGet(finished.getEncodedDataLength().longValue());
+                observedCount.computeIfAbsent(type, t -> new AtomicLong()).incrementAndGet();
+            }
+        });
+
+        devTools.addListener(Fetch.requestPaused(), paused -> {
+            stats.record(paused.getResourceType());
+            devTools.send(Fetch.failRequest(paused.getRequestId(), ErrorReason.BLOCKEDBYCLIENT));
+        });
+    }
+
+    private static List<RequestPattern> buildPatterns(String profile) {
+        String types;
+        String urls;
+        switch(profile) {
+            case "full":
+                types = "";
+                urls = "";
+                break;
+            case "no-media":
+                types = MEDIA_TYPES;
+                urls = "";
+                break;
+            case "functional-only":
+                types = MEDIA_TYPES;
+                urls = THIRD_PARTY_URLS;
+                break;
+            default:
+                types = "";
+                urls = "";
+        }
+        types = ConfigReader.getProperty("network.profile." + profile + ".types", types);
+        urls = ConfigReader.getProperty("network.profile." + profile + ".urls", urls);
+
+        List<RequestPattern> patterns = new ArrayList<>();
+        for (String type : types.split(",")) {
+            if (type.trim().isEmpty()) continue;
+            patterns.add(new RequestPattern(Optional.of("*"),
+                Optional.of(ResourceType.fromString(type.trim())), Optional.of(RequestStage.REQUEST)));
+        }
+        for (String url : urls.split(",")) {
+            if (url.trim().isEmpty()) continue;
+            patterns.add(new RequestPattern(Optional.of(url.trim()),
+                Optional.empty(), Optional.of(RequestStage.REQUEST)));
+        }
+        return patterns;
+    }
+
+    private static long estimateBytes(ResourceType type) {
+        AtomicLong count = observedCount.get(type);
+        if (count != null && count.get() > 0) {
+            return observedBytes.get(type).get() / count.get();
+        }
+        return fallbackBytes.getOrDefault(type, 10_000L);
+    }
+
+    /**
+     * Active profile and blocked request counters for one session, reset at the start of each scenario
+     */
+    private static class BlockingStats {
+        private volatile String profile = DEFAULT_PROFILE;
+        private volatile boolean blocking;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong estimatedBytes = new AtomicLong();
+
+        private void record(ResourceType type) {
+            requests.incrementAndGet();
+            estimatedBytes.addAndGet(estimateBytes(type));
+        }
+
+        private void reset() {
+            requests.set(0);
+            estimatedBytes.set(0);
+        }
+    }
+}
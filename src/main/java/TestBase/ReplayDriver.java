@@ -0,0 +1,195 @@
+package TestBase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+
+/**
+ * Browserless WebDriver serving a WireRecorder recording (browser=replay).
+ * Responses are matched by command name and parameters and served in recorded order, so
+ * ActionHelper, the page objects and the reporting run as in the recorded run, at memory
+ * speed and without Chrome or network. A command replayed more often than it was recorded
+ * (an extra poll) gets its last response again; a command never recorded is answered with
+ * null if it never returned a value, otherwise the replay fails with the command shown.
+ * Each replay session claims one recorded session, in the order the sessions were created,
+ * and consumes only that session's responses, so parallel replays do not steal each
+ * other's answers. Recordings without session ids replay as a single shared session.
+ */
+public class ReplayDriver extends RemoteWebDriver {
+    private static volatile Recording recording;
+
+    private ReplayDriver() {
+        super(new ReplayExecutor(), new ImmutableCapabilities());
+    }
+
+    /**
+     * @return New replay session; the recording is loaded on first use
+     */
+    public static ReplayDriver start() {
+        return new ReplayDriver();
+    }
+
+    private static Recording recording() {
+        if (recording == null) {
+            synchronized (ReplayDriver.class) {
+                if (recording == null) recording = Recording.load(WireRecorder.getRecordingFile());
+            }
+        }
+        return recording;
+    }
+
+    /**
+     * Answers commands from the recording instead of a driver server
+     */
+    private static final class ReplayExecutor implements CommandExecutor {
+        // Recorded session this replay session answers from, claimed on new-session
+        private RecordedSession session;
+
+        @Override
+        public Response execute(Command command) throws IOException {
+            if (session == null || WireRecorder.NEW_SESSION.equals(command.getName())) {
+                session = recording().claim();
+            }
+            Map<String, Object> entry = session.next(command);
+            SessionId sessionId = entry != null && entry.containsKey("sid")
+                ? new SessionId((String) entry.get("sid")) : command.getSessionId();
+            Response response = new Response(sessionId);
+
+            if (entry != null && entry.containsKey("e")) {
+                Throwable error = rebuildError((String) entry.get("e"), (String) entry.get("m"));
+                if (Boolean.TRUE.equals(entry.get("t"))) {
+                    if (error instanceof IOException) throw (IOException) error;
+                    throw (RuntimeException) error;
+                }
+                Number recordedStatus = (Number) entry.get("s");
+                int status = recordedStatus != null ? recordedStatus.intValue() : ErrorCodes.UNHANDLED_ERROR;
+                response.setStatus(status);
+                response.setState(new ErrorCodes().toState(status));
+                response.setValue(error);
+                return response;
+            }
+            response.setStatus(ErrorCodes.SUCCESS);
+            response.setState("success");
+            response.setValue(entry == null ? null : entry.get("v"));
+            return response;
+        }
+
+        private static Throwable rebuildError(String className, String message) {
+            try {
+                Class<?> type = Class.forName(className);
+                if (IOException.class.isAssignableFrom(type) || RuntimeException.class.isAssignableFrom(type)) {
+                    return (Throwable) type.getConstructor(String.class).newInstance(message);
+                }
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Exception type without a message constructor, fall through to the generic one
+            }
+            return new WebDriverException(message);
+        }
+    }
+
+    /**
+     * Recorded sessions in creation order, each handed to one replay session
+     */
+    private static final class Recording {
+        private final Map<String, RecordedSession> sessions = new LinkedHashMap<>();
+        private final Deque<RecordedSession> unclaimed = new ArrayDeque<>();
+        private final Set<String> commandsWithValues = new HashSet<>();
+
+        private static Recording load(Path file) {
+            Recording loaded = new Recording();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+                List<Map<String, Object>> entries = new ArrayList<>();
+                boolean withSessionIds = true;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) continue;
+                    Map<String, Object> entry = WireRecorder.JSON.toType(line, Json.MAP_TYPE);
+                    entries.add(entry);
+                    if (entry.get("sid") == null) withSessionIds = false;
+                }
+                // Older recordings only tag new-session entries; they replay as one shared session
+                for (Map<String, Object> entry : entries) {
+                    String command = (String) entry.get("c");
+                    String sid = withSessionIds ? (String) entry.get("sid") : "";
+                    loaded.sessions.computeIfAbsent(sid, id -> new RecordedSession(loaded.commandsWithValues))
+                        .add(WireRecorder.key(command, entry.get("p")), entry);
+                    if (entry.get("v") != null || entry.containsKey("e")) loaded.commandsWithValues.add(command);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read WebDriver recording " + file.toAbsolutePath()
+                    + " (record one with wire.record=true)", e);
+            }
+            loaded.unclaimed.addAll(loaded.sessions.values());
+            return loaded;
+        }
+
+        /**
+         * @return Next recorded session nobody replays yet
+         * @throws WebDriverException if the run creates more sessions than were recorded
+         */
+        private synchronized RecordedSession claim() {
+            RecordedSession shared = sessions.get("");
+            if (shared != null) return shared;
+            RecordedSession claimed = unclaimed.pollFirst();
+            if (claimed == null) {
+                throw new WebDriverException("Recording has only " + sessions.size()
+                    + " sessions; replay with the thread count and pool size it was recorded with");
+            }
+            return claimed;
+        }
+    }
+
+    /**
+     * Responses of one recorded session queued per command key
+     */
+    private static final class RecordedSession {
+        private final Map<String, Deque<Map<String, Object>>> responses = new HashMap<>();
+        private final Set<String> commandsWithValues;
+
+        private RecordedSession(Set<String> commandsWithValues) {
+            this.commandsWithValues = commandsWithValues;
+        }
+
+        private void add(String key, Map<String, Object> entry) {
+            responses.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(entry);
+        }
+
+        /**
+         * @return Next recorded response for the command, null for a void command that was never recorded
+         * @throws WebDriverException if the command was never recorded with these parameters
+         */
+        private synchronized Map<String, Object> next(Command command) {
+            String key = WireRecorder.key(command.getName(), command.getParameters());
+            Deque<Map<String, Object>> queue = responses.get(key);
+            if (queue == null) {
+                if (!commandsWithValues.contains(command.getName())) return null;
+                throw new WebDriverException("No recorded response for " + key);
+            }
+            return queue.size() > 1 ? queue.pollFirst() : queue.peekFirst();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package TestBase;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import Utils.ConfigReader;
+
+/**
+ * Caps live local browser sessions by host capacity and staggers launches.
+ * The cap is measured once per JVM from CPU count and free physical memory
+ * (override with governor.max.sessions). Launches go through a token bucket so
+ * parallel threads do not start every browser at the same instant, and are held
+ * back while system CPU load is above governor.cpu.max.load.
+ * However many threads TestNG/surefire start, at most the cap of browsers run.
+ */
+public class ResourceGovernor {
+    private static final int MAX_SESSIONS = computeMaxSessions();
+    private static final Semaphore sessionPermits = new Semaphore(MAX_SESSIONS, true);
+    private static final Map<WebDriver, Boolean> permitHolders = new ConcurrentHashMap<>();
+
+    private static final long LAUNCH_INTERVAL_NANOS = (long) (TimeUnit.SECONDS.toNanos(1)
+        / Double.parseDouble(ConfigReader.getProperty("governor.launch.per.second", "2")));
+    private static final int LAUNCH_BURST = Integer.parseInt(ConfigReader.getProperty("governor.launch.burst", "1"));
+    private static long nextLaunchNanos = System.nanoTime();
+
+    // Private constructor to prevent instantiation
+    private ResourceGovernor() {}
+
+    /**
+     * Tries to reserve capacity for one more live browser
+     * @param waitMillis How long to wait for a permit
+     * @return true if a permit was acquired; it must later be bound with track() or released
+     */
+    public static boolean tryAcquireSession(long waitMillis) {
+        try {
+            return sessionPermits.tryAcquire(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for a browser slot", e);
+        }
+    }
+
+    /**
+     * Gives back a permit that was acquired but not turned into a session
+     */
+    public static void releaseSession() {
+        sessionPermits.release();
+    }
+
+    /**
+     * Binds an acquired permit to the session launched with it
+     */
+    public static void track(WebDriver webDriver) {
+        permitHolders.put(webDriver, Boolean.TRUE);
+    }
+
+    /**
+     * Releases the permit held by a session once it has been quit
+     */
+    public static void untrack(WebDriver webDriver) {
+        if (permitHolders.remove(webDriver) != null) {
+            sessionPermits.release();
+        }
+    }
+
+    /**
+     * Blocks until the launch token bucket and current CPU load allow another browser start
+     */
+    public static void awaitLaunchSlot() {
+        long waitNanos;
+        synchronized (ResourceGovernor.class) {
+            long now = System.nanoTime();
+            nextLaunchNanos = Math.max(nextLaunchNanos, now - (LAUNCH_BURST - 1) * LAUNCH_INTERVAL_NANOS);
+            waitNanos = nextLaunchNanos - now;
+            nextLaunchNanos += LAUNCH_INTERVAL_NANOS;
+        }
+        double maxLoad = Double.parseDouble(ConfigReader.getProperty("governor.cpu.max.load", "0.9"));
+        long loadDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        try {
+            if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+            while (getSystemCpuLoad() > maxLoad && System.nanoTime() < loadDeadline) {
+                Thread.sleep(250);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting to launch a browser", e);
+        }
+    }
+
+    public static int getMaxSessions() {
+        return MAX_SESSIONS;
+    }
+
+    public static int getLiveSessions() {
+        return MAX_SESSIONS - sessionPermits.availablePermits();
+    }
+
+    // Host Measurement ////////////////////////////////////////////////////////
+
+    private static int computeMaxSessions() {
+        String configured = ConfigReader.getProperty("governor.max.sessions", "");
+        if (!configured.isEmpty()) return Math.max(1, Integer.parseInt(configured));
+
+        double perCore = Double.parseDouble(ConfigReader.getProperty("governor.sessions.per.core", "1"));
+        long memoryPerSessionMb = Long.parseLong(ConfigReader.getProperty("governor.memory.per.session.mb", "500"));
+        int byCpu = (int) Math.floor(Runtime.getRuntime().availableProcessors() * perCore);
+        int byMemory = (int) (getFreeMemoryMb() / memoryPerSessionMb);
+        int cap = Math.max(1, Math.min(byCpu, byMemory));
+        System.out.println("Resource governor: " + cap + " concurrent browser sessions (cpu allows "
+            + byCpu + ", free memory allows " + byMemory + ")");
+        return cap;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static long getFreeMemoryMb() {
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getFreePhysicalMemorySize() / (1024 * 1024);
+        }
+        return Long.MAX_VALUE / (1024 * 1024);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static double getSystemCpuLoad() {
+        java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getSystemCpuLoad();
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,104 @@
+package TestBase;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks browser setup cost and scenario throughput for the whole run.
+ * Compare the summary with session.pool.enabled on and off to see the pooling gain.
+ */
+public class SessionMetrics {
+    private static final AtomicLong setupNanos = new AtomicLong();
+    private static final AtomicLong setupCount = new AtomicLong();
+    private static final AtomicLong scenarioCount = new AtomicLong();
+    private static final AtomicLong firstSetupStart = new AtomicLong();
+    private static final AtomicLong lastScenarioEnd = new AtomicLong();
+    private static final Map<LeaseSource, AtomicLong> leaseCounts = new EnumMap<>(LeaseSource.class);
+    private static final Map<LeaseSource, AtomicLong> leaseWaitNanos = new EnumMap<>(LeaseSource.class);
+
+    /**
+     * Where a leased session came from: an idle pooled session, the pre-launch
+     * buffer (hit) or an in-line launch because the buffer was empty (miss)
+     */
+    public enum LeaseSource {
+        POOL, BUFFER, INLINE
+    }
+
+    static {
+        for (LeaseSource source : LeaseSource.values()) {
+            leaseCounts.put(source, new AtomicLong());
+            leaseWaitNanos.put(source, new AtomicLong());
+        }
+    }
+
+    // Private constructor to prevent instantiation
+    private SessionMetrics() {}
+
+    /**
+     * Records one browser setup (lease + navigation)
+     * @param startNanos System.nanoTime() taken before setup began
+     */
+    public static void recordSetup(long startNanos) {
+        firstSetupStart.compareAndSet(0, startNanos);
+        setupNanos.addAndGet(System.nanoTime() - startNanos);
+        setupCount.incrementAndGet();
+    }
+
+    /**
+     * Records how long a caller waited for a session and where it came from
+     * @param source Pool, pre-launch buffer or in-line launch
+     * @param startNanos System.nanoTime() taken before the lease began
+     */
+    public static void recordLease(LeaseSource source, long startNanos) {
+        leaseCounts.get(source).incrementAndGet();
+        leaseWaitNanos.get(source).addAndGet(System.nanoTime() - startNanos);
+    }
+
+    public static long getLeaseCount(LeaseSource source) {
+        return leaseCounts.get(source).get();
+    }
+
+    public static double getMeanLeaseWaitMillis(LeaseSource source) {
+        long count = leaseCounts.get(source).get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(leaseWaitNanos.get(source).get()) / 1000.0 / count;
+    }
+
+    /**
+     * Records the end of one scenario
+     */
+    public static void recordScenarioEnd() {
+        scenarioCount.incrementAndGet();
+        lastScenarioEnd.set(System.nanoTime());
+    }
+
+    public static double getMeanSetupMillis() {
+        long count = setupCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(setupNanos.get()) / 1000.0 / count;
+    }
+
+    public static double getScenariosPerMinute() {
+        long elapsed = lastScenarioEnd.get() - firstSetupStart.get();
+        if (scenarioCount.get() == 0 || elapsed <= 0) return 0;
+        return scenarioCount.get() * 60_000_000_000.0 / elapsed;
+    }
+
+    /**
+     * @return One-line summary for logs and report system info
+     */
+    public static String summary() {
+        return String.format("%d scenarios, %.1f scenarios/min, mean setup %.0f ms",
+            scenarioCount.get(), getScenariosPerMinute(), getMeanSetupMillis());
+    }
+
+    /**
+     * @return One-line summary of session lease sources and caller wait times
+     */
+    public static String leaseSummary() {
+        return String.format("pool reuse %d (%.3f ms), buffer hits %d (%.3f ms), buffer misses %d (%.0f ms)",
+            getLeaseCount(LeaseSource.POOL), getMeanLeaseWaitMillis(LeaseSource.POOL),
+            getLeaseCount(LeaseSource.BUFFER), getMeanLeaseWaitMillis(LeaseSource.BUFFER),
+            getLeaseCount(LeaseSource.INLINE), getMeanLeaseWaitMillis(LeaseSource.INLINE));
+    }
+}
@@ -0,0 +1,126 @@
+package TestBase;
+
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openqa.selenium.WebDriver;
+import Utils.ConfigReader;
+
+/**
+ * Launches browser sessions in the background so scenarios never wait on browser startup.
+ * Keeps enough warm sessions, already navigated to the base URL, to bring the number of
+ * live sessions per browser type up to the runner's parallelism. DriverPool takes from
+ * this buffer before launching in-line.
+ */
+public class SessionPreLauncher {
+    private static final Map<String, BlockingQueue<WebDriver>> buffers = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicInteger> pendingLaunches = new ConcurrentHashMap<>();
+    private static volatile ExecutorService launcher;
+    private static volatile int targetSize;
+
+    // Private constructor to prevent instantiation
+    private SessionPreLauncher() {}
+
+    /**
+     * Starts pre-launching sessions for the configured browser
+     * @param parallelism Number of scenarios the runner executes concurrently
+     */
+    public static synchronized void start(int parallelism) {
+        if (launcher != null || !isEnabled()) return;
+        targetSize = Integer.parseInt(
+            ConfigReader.getProperty("session.prelaunch.size", String.valueOf(parallelism))
+        );
+        if (targetSize <= 0) return;
+
+        int launchThreads = Integer.parseInt(ConfigReader.getProperty("session.prelaunch.threads", "2"));
+        launcher = Executors.newFixedThreadPool(launchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "session-prelauncher");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        String browser = ConfigReader.getProperty("browser", "chrome").toLowerCase();
+        boolean headless = Boolean.parseBoolean(ConfigReader.getProperty("headless", "false"));
+        refill(browser, headless);
+    }
+
+    /**
+     * Takes a warm session without blocking and schedules its replacement
+     * @return Pre-launched session or null if the buffer is empty
+     */
+    static WebDriver poll(String browser, boolean headless) {
+        if (launcher == null) return null;
+        WebDriver warm = buffer(DriverPool.poolKey(browser, headless)).poll();
+        refill(browser, headless);
+        return warm;
+    }
+
+    /**
+     * Schedules launches until live + buffered + pending sessions reach the target size
+     */
+    static synchronized void refill(String browser, boolean headless) {
+        ExecutorService executor = launcher;
+        if (executor == null) return;
+
+        String key = DriverPool.poolKey(browser, headless);
+        AtomicInteger pending = pending(key);
+        int deficit = targetSize - DriverPool.liveSessions(key) - buffer(key).size() - pending.get();
+        for (int i = 0; i < deficit; i++) {
+            pending.incrementAndGet();
+            executor.execute(() -> launch(browser, headless, key));
+        }
+    }
+
+    /**
+     * Stops background launches and quits every buffered session
+     */
+    public static synchronized void shutdown() {
+        if (launcher != null) {
+            launcher.shutdownNow();
+            launcher = null;
+        }
+        for (BlockingQueue<WebDriver> buffer : buffers.values()) {
+            WebDriver warm;
+            while ((warm = buffer.poll()) != null) {
+                DriverFactory.quit(warm);
+            }
+        }
+    }
+
+    private static void launch(String browser, boolean headless, String key) {
+        WebDriver warm = null;
+        try {
+            // Never queue for capacity in the background; scenarios have priority
+            warm = DriverFactory.tryCreate(browser, headless, 0);
+            if (warm == null) return;
+            warm.get(TestBase.getBaseUrl());
+            if (launcher == null) {
+                DriverFactory.quit(warm);
+            } else {
+                buffer(key).offer(warm);
+            }
+        } catch (Exception e) {
+            System.err.println("WARNING: Background browser launch failed: " + e.getMessage());
+            // A session that failed to navigate still holds a browser and a governor permit
+            if (warm != null) DriverFactory.quit(warm);
+        } finally {
+            pending(key).decrementAndGet();
+        }
+    }
+
+    private static BlockingQueue<WebDriver> buffer(String key) {
+        return buffers.computeIfAbsent(key, k -> new LinkedBlockingQueue<>());
+    }
+
+    private static AtomicInteger pending(String key) {
+        return pendingLaunches.computeIfAbsent(key, k -> new AtomicInteger());
+    }
+
+    private static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("session.prelaunch.enabled", "true"));
+    }
+}
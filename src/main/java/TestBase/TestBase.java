@@ -1,12 +1,6 @@
 package TestBase;
 
-import java.time.Duration;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import Utils.ActionHelper;
 import Utils.ConfigReader;
 import Utils.ExtentReportManager;
@@ -18,77 +12,42 @@ public class TestBase {
     // Default configuration values
     private static final String DEFAULT_BROWSER = "chrome";
     private static final String DEFAULT_URL = "https://example.com";
-    private static final int DEFAULT_TIMEOUT = 15;
     
  // Add browser name tracking
     private static String browserName;
 
     /**
      * Initializes the browser based on configuration
+     * Sessions are leased from DriverPool and reused across scenarios;
+     * browser=replay serves a WireRecorder recording instead of a real browser
      */
     public void initializeBrowser() {
         try{
+        	long setupStart = System.nanoTime();
         	String browser = ConfigReader.getProperty("browser", DEFAULT_BROWSER).toLowerCase();
         boolean headless = Boolean.parseBoolean(
             ConfigReader.getProperty("headless", "false")
         );
 
-        switch(browser) {
-            case "chrome":
-                initializeChrome(headless);
-                break;
-            case "firefox":
-                initializeFirefox(headless);
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported browser: " + browser);
-        }
+        driver.set(DriverPool.lease(browser, headless));
+        NetworkProfiles.startScenario(driver.get());
         TestBase.browserName = browser;
-        configureBrowserSettings();
-        navigateToBaseUrl();
+        if (!DriverPool.isPreNavigated(driver.get())) {
+            navigateToBaseUrl();
+        }
+        SessionMetrics.recordSetup(setupStart);
         } catch (Exception e) {
         	ExtentReportManager.logFail("Browser initialization failed: " + e.getMessage(), null);
             throw e;
         }
     }
 
-    private void initializeChrome(boolean headless) {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        if(headless) options.addArguments("--headless=new");
-        options.addArguments("--disable-notifications");
-        driver.set(new ChromeDriver(options));
-    }
-
-    private void initializeFirefox(boolean headless) {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = new FirefoxOptions();
-        if(headless) options.addArguments("-headless");
-        driver.set(new FirefoxDriver(options));
-    }
-
-    private void configureBrowserSettings() {
-        getDriver().manage().window().maximize();
-        getDriver().manage().timeouts()
-            .implicitlyWait(getImplicitWait())
-            .pageLoadTimeout(getPageLoadTimeout());
-    }
-
-    private Duration getImplicitWait() {
-        return Duration.ofSeconds(
-            Integer.parseInt(ConfigReader.getProperty("timeout.implicit", String.valueOf(DEFAULT_TIMEOUT)))
-        );
-    }
-
-    private Duration getPageLoadTimeout() {
-        return Duration.ofSeconds(
-            Integer.parseInt(ConfigReader.getProperty("timeout.pageload", String.valueOf(DEFAULT_TIMEOUT * 2)))
-        );
+    private void navigateToBaseUrl() {
+        getDriver().get(getBaseUrl());
     }
 
-    private void navigateToBaseUrl() {
-        String baseUrl = ConfigReader.getProperty("url", DEFAULT_URL);
-        getDriver().get(baseUrl);
+    static String getBaseUrl() {
+        return ConfigReader.getProperty("url", DEFAULT_URL);
     }
 
     /**
@@ -102,21 +61,24 @@ public class TestBase {
 
     /**
      * Cleanup method for test teardown
+     * Returns the session to DriverPool for reset and reuse instead of quitting it
      */
     public void tearDown() {
         if (driver.get() != null) {
-            driver.get().quit();
+            String networkSummary = NetworkProfiles.scenarioSummary(driver.get());
+            if (networkSummary != null) ExtentReportManager.logInfo(networkSummary);
+            DriverPool.release(driver.get());
             driver.remove();
         }
+        SessionMetrics.recordScenarioEnd();
     }
 
     /**
-     * Utility for grid configuration (if needed)
+     * Utility for grid configuration
+     * When true, DriverFactory creates RemoteWebDriver sessions on hub.url
      */
     public boolean isRemoteExecution() {
-        return Boolean.parseBoolean(
-            ConfigReader.getProperty("remote", "false")
-        );
+        return DriverFactory.isRemoteExecution();
     }
     
     public String getBrowserName() {
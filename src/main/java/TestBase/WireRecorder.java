@@ -0,0 +1,213 @@
+package TestBase;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.GZIPOutputStream;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.ErrorCodes;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.Response;
+import Utils.ConfigReader;
+
+/**
+ * Records the WebDriver command/response stream of real sessions (wire.record=true) so
+ * ReplayDriver can serve it back without a browser (browser=replay).
+ * The recording is a gzipped JSON-lines file (wire.recording.file): one line per command
+ * with its name, its session id, its parameters with keys sorted, and the decoded response
+ * value or error. Parallel sessions share the file; the session id keeps them apart.
+ * Screenshots are stored as a 1x1 PNG unless wire.record.screenshots=true, which keeps
+ * recordings small.
+ */
+public class WireRecorder {
+    private static final String DEFAULT_FILE = "recordings/wire-recording.jsonl.gz";
+    static final String NEW_SESSION = DriverCommand.NEW_SESSION;
+    static final String BLANK_PNG =
+        "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAQAAAC1HAwCAAAAC0lEQVR42mNkYAAAAAYAAjCB0C8AAAAASUVORK5CYII=";
+    static final Json JSON = new Json();
+
+    private static Writer writer;
+
+    // Private constructor to prevent instantiation
+    private WireRecorder() {}
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("wire.record", "false"));
+    }
+
+    static Path getRecordingFile() {
+        return Paths.get(ConfigReader.getProperty("wire.recording.file", DEFAULT_FILE));
+    }
+
+    /**
+     * Starts recording a freshly created session. The session already exists, so its
+     * new-session response is written from the negotiated capabilities.
+     * @param webDriver Session created by DriverFactory
+     */
+    public static void attach(WebDriver webDriver) {
+        if (!(webDriver instanceof RemoteWebDriver)) return;
+        RemoteWebDriver remote = (RemoteWebDriver) webDriver;
+        try {
+            Method setter = RemoteWebDriver.class.getDeclaredMethod("setCommandExecutor", CommandExecutor.class);
+            setter.setAccessible(true);
+            setter.invoke(remote, new RecordingExecutor(remote.getCommandExecutor()));
+        } catch (ReflectiveOperationException e) {
+            System.err.println("WARNING: Cannot record WebDriver session: " + e.getMessage());
+            return;
+        }
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("c", NEW_SESSION);
+        entry.put("sid", remote.getSessionId().toString());
+        entry.put("v", remote.getCapabilities().asMap());
+        write(entry);
+    }
+
+    /**
+     * Finishes the recording file; sessions created afterwards start a new one
+     */
+    public static synchronized void close() {
+        if (writer == null) return;
+        try {
+            writer.close();
+            System.out.println("WebDriver recording written to " + getRecordingFile().toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("WARNING: Failed to finish WebDriver recording: " + e.getMessage());
+        } finally {
+            writer = null;
+        }
+    }
+
+    private static synchronized void write(Map<String, Object> entry) {
+        try {
+            if (writer == null) {
+                Path file = getRecordingFile();
+                if (file.getParent() != null) Files.createDirectories(file.getParent());
+                writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(file)), StandardCharsets.UTF_8));
+            }
+            writer.write(toJsonLine(entry));
+            writer.write('\n');
+        } catch (IOException e) {
+            System.err.println("WARNING: Failed to record WebDriver command: " + e.getMessage());
+        }
+    }
+
+    // Recording Format ////////////////////////////////////////////////////////
+
+    /**
+     * @return Lookup key of a command: its name plus its parameters in canonical form
+     */
+    static String key(String command, Object parameters) {
+        return NEW_SESSION.equals(command) ? command : command + " " + toJsonLine(canonical(parameters));
+    }
+
+    /**
+     * Converts a value to plain JSON types with map keys sorted, so equal parameters
+     * produce equal keys regardless of the map implementation that carried them
+     */
+    static Object canonical(Object value) {
+        return sorted(JSON.toType(toJsonLine(value), Object.class));
+    }
+
+    private static Object sorted(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                sorted.put(String.valueOf(entry.getKey()), sorted(entry.getValue()));
+            }
+            return sorted;
+        }
+        if (value instanceof List) {
+            List<Object> sorted = new ArrayList<>();
+            for (Object item : (List<?>) value) sorted.add(sorted(item));
+            return sorted;
+        }
+        return value;
+    }
+
+    static String toJsonLine(Object value) {
+        StringBuilder line = new StringBuilder();
+        try (JsonOutput out = JSON.newOutput(line).setPrettyPrint(false)) {
+            out.write(value == null ? Collections.emptyMap() : value);
+        }
+        return line.toString();
+    }
+
+    private static Map<String, Object> entryFor(Command command) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("c", command.getName());
+        if (command.getSessionId() != null) entry.put("sid", command.getSessionId().toString());
+        entry.put("p", canonical(command.getParameters()));
+        return entry;
+    }
+
+    private static void putError(Map<String, Object> entry, Throwable error) {
+        entry.put("e", error.getClass().getName());
+        entry.put("m", error instanceof WebDriverException
+            ? ((WebDriverException) error).getRawMessage() : error.getMessage());
+    }
+
+    private static boolean recordsScreenshots() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("wire.record.screenshots", "false"));
+    }
+
+    /**
+     * Passes every command to the real executor and writes the command and its outcome
+     */
+    private static final class RecordingExecutor implements CommandExecutor {
+        private final CommandExecutor delegate;
+
+        private RecordingExecutor(CommandExecutor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Response execute(Command command) throws IOException {
+            Map<String, Object> entry = entryFor(command);
+            Response response;
+            try {
+                response = delegate.execute(command);
+            } catch (IOException | RuntimeException e) {
+                entry.put("t", true);
+                putError(entry, e);
+                write(entry);
+                throw e;
+            }
+            Object value = response.getValue();
+            Integer status = response.getStatus();
+            if (value instanceof Throwable) {
+                entry.put("s", status);
+                putError(entry, (Throwable) value);
+            } else if (status != null && status != ErrorCodes.SUCCESS) {
+                entry.put("s", status);
+                entry.put("e", WebDriverException.class.getName());
+                entry.put("m", String.valueOf(value));
+            } else if (!recordsScreenshots() && (DriverCommand.SCREENSHOT.equals(command.getName())
+                    || DriverCommand.ELEMENT_SCREENSHOT.equals(command.getName()))) {
+                entry.put("v", BLANK_PNG);
+            } else {
+                entry.put("v", value);
+            }
+            write(entry);
+            return response;
+        }
+    }
+}
@@ -4,53 +4,116 @@ import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
 import TestBase.TestBase;
 
 import java.io.File;
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * Centralized Selenium interaction methods with built-in reporting and error handling
- * Features explicit waits, retry mechanisms, and Extent Reports integration
+ * Features explicit waits, retries through RetryPolicy, and Extent Reports integration
  */
 public class ActionHelper {
     private final WebDriver driver;
-    private final WebDriverWait wait;
+    private final WaitEngine waits;
+    private final ElementCache elementCache;
+    private final String pageName;
+    // Time this helper has spent in waits; lets ActionMetrics split an action into wait and execution
+    private long waitNanos;
     private static final Duration DEFAULT_WAIT = Duration.ofSeconds(15);
-    private static final int MAX_STALE_RETRIES = 2;
+    private static final Duration PRESENCE_CHECK_WAIT = Duration.ofMillis(500);
+
+    // Sets values through the native value setter so framework-controlled inputs (React) see them
+    private static final String FILL_FORM_SCRIPT =
+        "var find = " + PageSnapshot.FIND_FUNCTION + ";" +
+        "return arguments[0].map(function(f) {" +
+        "  var el = find(f);" +
+        "  if (!el) return null;" +
+        "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype" +
+        "    : el instanceof HTMLSelectElement ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+        "  el.focus();" +
+        "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, f.text);" +
+        "  el.dispatchEvent(new Event('input', { bubbles: true }));" +
+        "  el.dispatchEvent(new Event('change', { bubbles: true }));" +
+        "  el.blur();" +
+        "  return el.type || '';" +
+        "});";
+    private static final String READ_VALUES_SCRIPT =
+        "var find = " + PageSnapshot.FIND_FUNCTION + ";" +
+        "return arguments[0].map(function(f) {" +
+        "  var el = find(f);" +
+        "  return el ? [String(el.value), el.type || ''] : null;" +
+        "});";
 
     /**
      * Initializes ActionHelper with WebDriver from TestBase
      * @param testBase Active TestBase instance providing WebDriver
      */
     public ActionHelper(TestBase testBase) {
+        this(testBase, "-");
+    }
+
+    /**
+     * Initializes ActionHelper for a page object
+     * @param testBase Active TestBase instance providing WebDriver
+     * @param pageName Page name the action metrics are recorded under
+     */
+    public ActionHelper(TestBase testBase, String pageName) {
         this.driver = testBase.getDriver();
-        this.wait = new WebDriverWait(driver, DEFAULT_WAIT);
+        this.waits = new WaitEngine(driver);
+        this.elementCache = ElementCache.forDriver(driver);
+        this.pageName = pageName;
+    }
+
+    private ActionHelper(ActionHelper shared, String pageName) {
+        this.driver = shared.driver;
+        this.waits = shared.waits;
+        this.elementCache = shared.elementCache;
+        this.pageName = pageName;
+    }
+
+    /**
+     * Returns a view of this helper that records its action metrics under another page.
+     * The view shares driver, wait engine and element cache, so it costs one small object.
+     * @param pageName Page name the action metrics are recorded under
+     * @return ActionHelper for that page
+     */
+    public ActionHelper forPage(String pageName) {
+        return new ActionHelper(this, pageName);
     }
 
     // Core Element Interactions ///////////////////////////////////////////////
     
     /**
-     * Clicks an element with retry logic for stale elements
+     * Clicks an element, retrying stale or intercepted clicks per RetryPolicy
      * @param locator Element locator
      * @param elementName Descriptive name for reporting
      * @throws IOException 
      */
     public void click(By locator, String elementName) throws IOException {
-        for (int attempt = 0; attempt < MAX_STALE_RETRIES; attempt++) {
-            try {
-                WebElement element = waitForClickable(locator, elementName);
-                element.click();
-                ExtentReportManager.logPass("Clicked: " + elementName, elementName);
-                return;
-            } catch (StaleElementReferenceException e) {
-                handleStaleElement(attempt, elementName, e);
-            } catch (Exception e) {
-                handleInteractionFailure("click", elementName, e);
-                throw e;
-            }
+        ActionMetrics.Timer timer = startTimer("click", label(locator, elementName));
+        try {
+            withRetry(locator, elementName, () -> {
+                waitForClickable(locator, elementName).click();
+                return null;
+            });
+            ExtentReportManager.logPass("Clicked: " + elementName, elementName);
+        } catch (Exception e) {
+            handleInteractionFailure("click", elementName, e);
+            throw e;
+        } finally {
+            forgetElements();
+            stopTimer(timer);
         }
     }
 
@@ -62,15 +125,22 @@ public class ActionHelper {
      * @throws IOException 
      */
     public void sendKeys(By locator, String text, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("sendKeys", label(locator, elementName));
         try {
-            WebElement element = waitForVisible(locator, elementName);
-            element.clear();
-            element.sendKeys(text);
+            withRetry(locator, elementName, () -> {
+                WebElement element = waitForVisible(locator, elementName);
+                element.clear();
+                element.sendKeys(text);
+                return null;
+            });
             String maskedText = maskSensitiveData(text, elementName);
             ExtentReportManager.logInfo("Entered text in '" + elementName + "': " + maskedText);
         } catch (Exception e) {
             handleInteractionFailure("text entry", elementName, e);
             throw e;
+        } finally {
+            forgetElements();
+            stopTimer(timer);
         }
     }
 
@@ -84,13 +154,16 @@ public class ActionHelper {
      * @throws IOException 
      */
     public void selectByText(By locator, String text, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("selectByText", label(locator, elementName));
         try {
-            WebElement element = waitForPresent(locator, elementName);
-            new Select(element).selectByVisibleText(text);
+            usePresent(locator, elementName, element -> new Select(element).selectByVisibleText(text));
             ExtentReportManager.logPass("Selected '" + text + "' in " + elementName, elementName);
         } catch (Exception e) {
             handleInteractionFailure("dropdown selection", elementName, e);
             throw e;
+        } finally {
+            forgetElements();
+            stopTimer(timer);
         }
     }
 
@@ -102,13 +175,16 @@ public class ActionHelper {
      * @throws IOException 
      */
     public void selectByValue(By locator, String value, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("selectByValue", label(locator, elementName));
         try {
-            WebElement element = waitForPresent(locator, elementName);
-            new Select(element).selectByValue(value);
+            usePresent(locator, elementName, element -> new Select(element).selectByValue(value));
             ExtentReportManager.logPass("Selected value '" + value + "' in " + elementName, elementName);
         } catch (Exception e) {
             handleInteractionFailure("dropdown selection", elementName, e);
             throw e;
+        } finally {
+            forgetElements();
+            stopTimer(timer);
         }
     }
     
@@ -120,35 +196,173 @@ public class ActionHelper {
      * @throws IOException 
      */
     public void clearAndType(By locator, String text, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("clearAndType", label(locator, elementName));
         try {
-            WebElement element = waitForVisible(locator, elementName);
-            
-            // Clear existing text
-            element.clear();
-            ExtentReportManager.logInfo("Cleared field: " + elementName);
-            
-            // Verify field is empty
-            if(!element.getAttribute("value").isEmpty()) {
-                clearUsingJavaScript(locator, elementName);
-            }
-            
-            // Type new text
-            element.sendKeys(text);
-            ExtentReportManager.logInfo("Typed text in " + elementName + ": " + maskSensitiveData(text, elementName));
-            
-            // Verify text entry
-            if(!element.getAttribute("value").equals(text)) {
-                throw new RuntimeException("Text entry verification failed");
-            }
+            withRetry(locator, elementName, () -> {
+                WebElement element = waitForVisible(locator, elementName);
+                
+                // Clear existing text
+                element.clear();
+                ExtentReportManager.logInfo("Cleared field: " + elementName);
+                
+                // Verify field is empty
+                if(!element.getAttribute("value").isEmpty()) {
+                    clearUsingJavaScript(locator, elementName);
+                }
+                
+                // Type new text
+                element.sendKeys(text);
+                ExtentReportManager.logInfo("Typed text in " + elementName + ": " + maskSensitiveData(text, elementName));
+                
+                // Verify text entry
+                if(!element.getAttribute("value").equals(text)) {
+                    throw new RuntimeException("Text entry verification failed");
+                }
+                return null;
+            });
             
         } catch (Exception e) {
             handleInteractionFailure("clear and type", elementName, e);
+        } finally {
+            forgetElements();
+            stopTimer(timer);
         }
     }
     
+    /**
+     * Fills several fields in one script call and verifies them in a second one.
+     * Values go through the native input value setter followed by input/change events.
+     * @param fields Field locators and values, filled in iteration order
+     * @param formName Descriptive form name for reporting
+     * @throws IOException 
+     */
+    public void fillForm(Map<By, String> fields, String formName) throws IOException {
+        fillForm(fields, formName, Collections.<By>emptySet());
+    }
+
+    /**
+     * Fills several fields in one script call, typing real keystrokes only where flagged.
+     * Fields whose value did not stick after the script fill are retyped with keystrokes.
+     * @param fields Field locators and values, filled in iteration order
+     * @param formName Descriptive form name for reporting
+     * @param typedFields Fields that need real key events (key handlers, masks, autocomplete)
+     * @throws IOException 
+     */
+    public void fillForm(Map<By, String> fields, String formName, Collection<By> typedFields) throws IOException {
+        ActionMetrics.Timer timer = startTimer("fillForm", formName);
+        try {
+            withRetry(null, formName, () -> {
+                fillFields(fields, formName, typedFields);
+                return null;
+            });
+        } catch (Exception e) {
+            handleInteractionFailure("fill form", formName, e);
+            throw e;
+        } finally {
+            forgetElements();
+            stopTimer(timer);
+        }
+    }
+
+    private void fillFields(Map<By, String> fields, String formName, Collection<By> typedFields) throws IOException {
+        List<By> scripted = new ArrayList<>();
+        for (By locator : fields.keySet()) {
+            if (!typedFields.contains(locator)) scripted.add(locator);
+        }
+        fillByScript(scripted, fields, formName);
+
+        for (By locator : fields.keySet()) {
+            if (typedFields.contains(locator)) typeInto(locator, fields.get(locator), formName);
+        }
+
+        List<List<String>> actual = readValues(new ArrayList<>(fields.keySet()));
+        List<String> filled = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<By, String> field : fields.entrySet()) {
+            By locator = field.getKey();
+            String expected = field.getValue();
+            List<String> read = actual.get(index++);
+            // Masking follows the rendered input type of every field, typed ones included
+            String type = read != null ? read.get(1) : null;
+            if (read == null || !expected.equals(read.get(0))) {
+                if (typedFields.contains(locator)) {
+                    throw new RuntimeException("Text entry verification failed for " + locator);
+                }
+                // Value was reset by the page, e.g. a handler that only reacts to key events
+                typeInto(locator, expected, formName);
+                read = readValues(Collections.singletonList(locator)).get(0);
+                if (read == null || !expected.equals(read.get(0))) {
+                    throw new RuntimeException("Text entry verification failed for " + locator);
+                }
+                type = read.get(1);
+            }
+            String label = locator + ("password".equals(type) ? " (password)" : "");
+            filled.add(locator + ": " + maskSensitiveData(expected, label));
+        }
+        ExtentReportManager.logInfo("Filled " + formName + ": " + String.join(", ", filled));
+    }
+
+    /**
+     * Sets every field in one script call; fields not rendered yet are waited for and set in a second call
+     */
+    @SuppressWarnings("unchecked")
+    private void fillByScript(List<By> locators, Map<By, String> fields, String formName) throws IOException {
+        List<By> pending = locators;
+        for (int pass = 0; pass < 2 && !pending.isEmpty(); pass++) {
+            List<Map<String, String>> specs = new ArrayList<>();
+            for (By locator : pending) {
+                Map<String, String> spec = PageSnapshot.describe(locator);
+                spec.put("text", fields.get(locator));
+                specs.add(spec);
+            }
+            List<Object> types = (List<Object>) ((JavascriptExecutor) driver).executeScript(FILL_FORM_SCRIPT, specs);
+
+            List<By> missing = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                if (types.get(i) == null) {
+                    missing.add(pending.get(i));
+                }
+            }
+            for (By locator : missing) {
+                waitForVisible(locator, formName + " " + locator);
+            }
+            pending = missing;
+        }
+        if (!pending.isEmpty()) {
+            throw new NoSuchElementException("Form fields not found: " + pending);
+        }
+    }
+
+    /**
+     * @return Value and input type of each field, null for a field that is gone
+     */
+    @SuppressWarnings("unchecked")
+    private List<List<String>> readValues(List<By> locators) {
+        List<Map<String, String>> specs = new ArrayList<>();
+        for (By locator : locators) {
+            specs.add(PageSnapshot.describe(locator));
+        }
+        return (List<List<String>>) ((JavascriptExecutor) driver).executeScript(READ_VALUES_SCRIPT, specs);
+    }
+
+    private void typeInto(By locator, String text, String formName) throws IOException {
+        WebElement element = waitForVisible(locator, formName + " " + locator);
+        element.clear();
+        element.sendKeys(text);
+    }
+
     public void navigateTo(String url) {
-        driver.get(url);
-        ExtentReportManager.logInfo("Navigated to: " + url);
+        ActionMetrics.Timer timer = startTimer("navigateTo", url);
+        try {
+            withRetry(null, url, () -> {
+                driver.get(url);
+                return null;
+            });
+            elementCache.invalidate();
+            ExtentReportManager.logInfo("Navigated to: " + url);
+        } finally {
+            stopTimer(timer);
+        }
     }
 
 
@@ -162,12 +376,18 @@ public class ActionHelper {
      * @throws IOException 
      */
     public WebElement waitForClickable(By locator, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("waitForClickable", label(locator, elementName));
         try {
             ExtentReportManager.logInfo("Waiting for clickability: " + elementName);
-            return wait.until(ExpectedConditions.elementToBeClickable(locator));
+            WebElement cached = cachedIf(locator, element -> element.isDisplayed() && element.isEnabled());
+            if (cached != null) return cached;
+            return elementCache.put(locator, waits.until(label(locator, elementName), "clickable", DEFAULT_WAIT,
+                ExpectedConditions.elementToBeClickable(locator)));
         } catch (Exception e) {
             handleInteractionFailure("wait for clickable", elementName, e);
             throw e;
+        } finally {
+            stopWaitTimer(timer);
         }
     }
 
@@ -179,31 +399,45 @@ public class ActionHelper {
      * @throws IOException 
      */
     public WebElement waitForVisible(By locator, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("waitForVisible", label(locator, elementName));
         try {
             ExtentReportManager.logInfo("Waiting for visibility: " + elementName);
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement cached = cachedIf(locator, WebElement::isDisplayed);
+            if (cached != null) return cached;
+            return elementCache.put(locator, waits.until(label(locator, elementName), "visible", DEFAULT_WAIT,
+                ExpectedConditions.visibilityOfElementLocated(locator)));
         } catch (Exception e) {
             handleInteractionFailure("wait for visible", elementName, e);
             throw e;
+        } finally {
+            stopWaitTimer(timer);
         }
     }
     
 // Wait Handlers ///////////////////////////////////////////////////////////
     
     /**
-     * Waits for element presence in DOM (may not be visible)
+     * Waits for element presence in DOM (may not be visible).
+     * A cached handle is returned unchecked; callers that act on it go through
+     * usePresent/readPresent so a stale handle is re-resolved.
      * @param locator Element locator
      * @param elementName Descriptive name for reporting
      * @return WebElement once present
      * @throws IOException 
      */
     public WebElement waitForPresent(By locator, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("waitForPresent", label(locator, elementName));
         try {
             ExtentReportManager.logInfo("Waiting for presence: " + elementName);
-            return wait.until(ExpectedConditions.presenceOfElementLocated(locator));
+            WebElement cached = elementCache.get(locator);
+            if (cached != null) return cached;
+            return elementCache.put(locator, waits.until(label(locator, elementName), "present", DEFAULT_WAIT,
+                ExpectedConditions.presenceOfElementLocated(locator)));
         } catch (Exception e) {
             handleInteractionFailure("wait for presence", elementName, e);
             throw e;
+        } finally {
+            stopWaitTimer(timer);
         }
     }
 
@@ -217,13 +451,17 @@ public class ActionHelper {
      * @throws IOException 
      */
     public void jsClick(By locator, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("jsClick", label(locator, elementName));
         try {
-            WebElement element = waitForPresent(locator, elementName);
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
+            usePresent(locator, elementName,
+                element -> ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element));
             ExtentReportManager.logPass("JS clicked: " + elementName, elementName);
         } catch (Exception e) {
             handleInteractionFailure("JavaScript click", elementName, e);
             throw e;
+        } finally {
+            forgetElements();
+            stopTimer(timer);
         }
     }
 
@@ -234,15 +472,17 @@ public class ActionHelper {
      * @throws IOException 
      */
     public void scrollToElement(By locator, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("scrollToElement", label(locator, elementName));
         try {
-            WebElement element = waitForPresent(locator, elementName);
-            ((JavascriptExecutor) driver).executeScript(
+            usePresent(locator, elementName, element -> ((JavascriptExecutor) driver).executeScript(
                 "arguments[0].scrollIntoView({behavior: 'smooth', block: 'center'});", 
                 element
-            );
+            ));
             ExtentReportManager.logInfo("Scrolled to: " + elementName);
         } catch (Exception e) {
             handleInteractionFailure("scroll to element", elementName, e);
+        } finally {
+            stopTimer(timer);
         }
     }
     
@@ -253,18 +493,127 @@ public class ActionHelper {
      * @throws IOException 
      */
     public void clearUsingJavaScript(By locator, String elementName) throws IOException {
+        ActionMetrics.Timer timer = startTimer("clearUsingJavaScript", label(locator, elementName));
         try {
-            WebElement element = waitForPresent(locator, elementName);
-            ((JavascriptExecutor) driver).executeScript(
+            usePresent(locator, elementName, element -> ((JavascriptExecutor) driver).executeScript(
                 "arguments[0].value = '';", element
-            );
+            ));
             ExtentReportManager.logInfo("JavaScript cleared field: " + elementName);
         } catch (Exception e) {
             handleInteractionFailure("JavaScript clear", elementName, e);
+        } finally {
+            forgetElements();
+            stopTimer(timer);
         }
     }
 
     // Utility Methods /////////////////////////////////////////////////////////
+
+    /**
+     * Returns the cached handle if it still satisfies the condition, evicting it if stale
+     * @param locator Element locator
+     * @param condition State the element must be in
+     * @return Cached WebElement, or null if the caller has to resolve it again
+     */
+    private WebElement cachedIf(By locator, Predicate<WebElement> condition) {
+        WebElement cached = elementCache.get(locator);
+        if (cached == null) return null;
+        try {
+            if (condition.test(cached)) return cached;
+        } catch (StaleElementReferenceException e) {
+            elementCache.evict(locator);
+        }
+        return null;
+    }
+
+    /**
+     * Drops cached handles after an action that may have re-rendered part of the page
+     */
+    private void forgetElements() {
+        elementCache.invalidate();
+    }
+
+    private ActionMetrics.Timer startTimer(String action, String elementName) {
+        return ActionMetrics.start(action, elementName, pageName, waitNanos);
+    }
+
+    private void stopTimer(ActionMetrics.Timer timer) {
+        ActionMetrics.stop(timer, waitNanos);
+    }
+
+    private void stopWaitTimer(ActionMetrics.Timer timer) {
+        waitNanos += ActionMetrics.stopWait(timer);
+    }
+
+    /**
+     * @return Name the wait latency is recorded under; some callers pass no element name
+     */
+    private static String label(By locator, String elementName) {
+        return elementName != null ? elementName : locator.toString();
+    }
+
+    /**
+     * Returns the cached handle or finds and caches the element without an explicit wait.
+     * Goes through findElements so the time an empty lookup spends in the implicit wait is measured.
+     * @throws NoSuchElementException if nothing matches
+     */
+    private WebElement cachedOrFind(By locator) {
+        WebElement cached = elementCache.get(locator);
+        if (cached != null) return cached;
+        long start = System.nanoTime();
+        List<WebElement> found = driver.findElements(locator);
+        if (found.isEmpty()) {
+            ImplicitWaits.recordMiss(start);
+            throw new NoSuchElementException("No element matches " + locator);
+        }
+        return elementCache.put(locator, found.get(0));
+    }
+
+    /**
+     * Acts on a present element, re-resolving it per RetryPolicy if the handle went stale
+     */
+    private void usePresent(By locator, String elementName, Consumer<WebElement> action) throws IOException {
+        readPresent(locator, elementName, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    /**
+     * Reads from a present element, re-resolving it per RetryPolicy if the handle went stale
+     */
+    private <T> T readPresent(By locator, String elementName, Function<WebElement, T> read) throws IOException {
+        return withRetry(locator, elementName, () -> read.apply(waitForPresent(locator, elementName)));
+    }
+
+    /**
+     * Runs one interaction under the central retry policy and the session circuit breaker.
+     * Applied once per public operation; the waitFor* helpers it calls do not retry themselves.
+     * Before a retry a stale handle is evicted so the next attempt resolves the element again.
+     * @param locator Element the interaction works on, null for page-level actions
+     * @param elementName Descriptive name for reporting
+     * @param attempt Interaction to run
+     * @return Result of the first successful attempt
+     */
+    private <T, E extends Exception> T withRetry(By locator, String elementName, RetryPolicy.Attempt<T, E> attempt) throws E {
+        return RetryPolicy.execute(driver, attempt, (error, retry, pauseMillis) -> {
+            if (error instanceof StaleElementReferenceException) {
+                if (locator != null) elementCache.evict(locator);
+                else elementCache.invalidate();
+            }
+            ExtentReportManager.logWarning(error.getClass().getSimpleName() + " on " + elementName
+                + ", retry " + retry + " in " + pauseMillis + " ms", elementName);
+        });
+    }
+
+    /**
+     * Lets a lost browser session escape the lookups that otherwise report failures as false or ""
+     */
+    private static void propagateSessionLoss(Exception e) {
+        if (e instanceof RuntimeException && SessionCircuitBreaker.isSessionLost(e)) {
+            throw (RuntimeException) e;
+        }
+    }
     
     /**
      * Handles failed interactions with screenshot capture
@@ -274,7 +623,8 @@ public class ActionHelper {
      * @throws IOException 
      */
     private void handleInteractionFailure(String actionType, String elementName, Exception e) throws IOException {
-        String ssPath = ScreenshotUtils.capture(driver, "failure_" + elementName);
+        StepEvidence.flush(driver, "Failed to " + actionType + " " + elementName);
+        String ssPath = ScreenshotUtils.capture(driver, "failure_" + elementName, ScreenshotProfile.failure());
         ExtentReportManager.logFail("Failure screenshot", ssPath);
     	String errorMessage = String.format("Failed to %s: %s - %s", 
             actionType, elementName, e.getMessage());
@@ -297,28 +647,46 @@ public class ActionHelper {
         return text;
     }
 
+    // Screenshot Utility //////////////////////////////////////////////////////
+    
     /**
-     * Handles stale element retry logic
-     * @param attempt Current retry attempt
-     * @param elementName Descriptive element name
-     * @param e Original exception
+     * Nested class for screenshot handling
      */
-    private void handleStaleElement(int attempt, String elementName, Exception e) {
-        if (attempt == MAX_STALE_RETRIES - 1) {
-            String error = "Stale element after " + MAX_STALE_RETRIES + " attempts: " + elementName;
-            ExtentReportManager.logFail(error, error);
-            throw new StaleElementReferenceException(error, e);
+    public String captureScreenshot(String name) {
+        return captureScreenshot(name, ScreenshotProfile.step());
+    }
+
+    /**
+     * Captures the browser with a screenshot profile
+     * @param name Capture name
+     * @param profile e.g. ScreenshotProfile.failure() for lossless evidence
+     * @return File name to pass to ExtentReportManager, null if the capture failed
+     */
+    public String captureScreenshot(String name, ScreenshotProfile profile) {
+        ActionMetrics.Timer timer = startTimer("captureScreenshot", name);
+        try {
+            return ScreenshotUtils.capture(driver, name, profile);
+        } finally {
+            stopTimer(timer);
         }
-        ExtentReportManager.logWarning("Stale element detected, retrying: " + elementName, elementName);
     }
 
-    // Screenshot Utility //////////////////////////////////////////////////////
-    
     /**
-     * Nested class for screenshot handling
+     * Captures only the area of a visible element
+     * @param locator Element locator
+     * @param elementName Descriptive name for reporting
+     * @param profile Screenshot profile
+     * @return File name to pass to ExtentReportManager, null if the capture failed
+     * @throws IOException
      */
-    public String captureScreenshot(String name) {
-        return ScreenshotUtils.capture(driver, name);
+    public String captureElementScreenshot(By locator, String elementName, ScreenshotProfile profile) throws IOException {
+        ActionMetrics.Timer timer = startTimer("captureElementScreenshot", elementName);
+        try {
+            return withRetry(locator, elementName, () ->
+                ScreenshotUtils.captureElement(driver, elementName, waitForVisible(locator, elementName), profile));
+        } finally {
+            stopTimer(timer);
+        }
     }
     
     /**
@@ -329,11 +697,13 @@ public class ActionHelper {
      */
     public boolean isElementPresent(By locator, String elementName) {
         try {
-            new WebDriverWait(driver, Duration.ofMillis(500))
-                .until(ExpectedConditions.presenceOfElementLocated(locator));
+            elementCache.put(locator, withRetry(locator, elementName, () ->
+                waits.until(label(locator, elementName), "present", PRESENCE_CHECK_WAIT,
+                    ExpectedConditions.presenceOfElementLocated(locator))));
             ExtentReportManager.logInfo(elementName + " is present in DOM");
             return true;
         } catch (Exception e) {
+            propagateSessionLoss(e);
             ExtentReportManager.logInfo(elementName + " not found in DOM");
             return false;
         }
@@ -347,7 +717,7 @@ public class ActionHelper {
      */
     public boolean isElementDisplayed(By locator, String elementName) {
         try {
-            boolean displayed = driver.findElement(locator).isDisplayed();
+            boolean displayed = withRetry(locator, elementName, () -> cachedOrFind(locator).isDisplayed());
             String message = elementName + (displayed ? " is visible" : " exists but hidden");
             ExtentReportManager.logInfo(message);
             return displayed;
@@ -367,13 +737,57 @@ public class ActionHelper {
         if (!isElementPresent(locator, elementName)) return false;
         
         try {
-            boolean enabled = driver.findElement(locator).isEnabled();
+            // isElementPresent has just cached the element, so this needs no second find
+            boolean enabled = withRetry(locator, elementName, () -> cachedOrFind(locator).isEnabled());
             String message = elementName + (enabled ? " is enabled" : " is disabled");
             ExtentReportManager.logInfo(message);
             return enabled;
         } catch (StaleElementReferenceException e) {
-            ExtentReportManager.logWarning(elementName + " became stale during enabled check", elementName);
-            return isElementEnabled(locator, elementName); // Recursive retry
+            // Retries are exhausted
+            ExtentReportManager.logWarning(elementName + " kept changing during enabled check", elementName);
+            return false;
+        }
+    }
+
+    /**
+     * Checks that an element is not in the DOM without paying the implicit wait.
+     * Reads the DOM through one script call, so it returns in milliseconds either way.
+     * @param locator Element locator
+     * @param elementName Descriptive name for reporting
+     * @return true if no element matches
+     */
+    public boolean isElementAbsent(By locator, String elementName) {
+        long start = System.nanoTime();
+        boolean absent;
+        try {
+            absent = withRetry(locator, elementName, () -> !PageSnapshot.capture(driver,
+                Collections.singletonList(locator), Collections.<String>emptyList()).get(locator).isPresent());
+        } catch (IllegalArgumentException e) {
+            // Locator type the probe script cannot resolve, look it up with the implicit wait off
+            driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+            try {
+                absent = driver.findElements(locator).isEmpty();
+            } finally {
+                driver.manage().timeouts().implicitlyWait(ImplicitWaits.configured());
+            }
+        }
+        if (absent) elementCache.evict(locator);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        ExtentReportManager.logInfo(elementName + (absent ? " is absent" : " is present") + " (checked in " + elapsed + " ms)");
+        return absent;
+    }
+
+    /**
+     * Fails immediately if the element is in the DOM
+     * @param locator Element locator
+     * @param elementName Descriptive name for reporting
+     * @throws AssertionError if the element is present
+     */
+    public void assertAbsent(By locator, String elementName) {
+        if (!isElementAbsent(locator, elementName)) {
+            String error = elementName + " should not be present";
+            ExtentReportManager.logFail(error, ScreenshotUtils.capture(driver, "unexpected_" + elementName, ScreenshotProfile.failure()));
+            throw new AssertionError(error);
         }
     }
 
@@ -388,19 +802,24 @@ public class ActionHelper {
     public WebElement waitForElementCondition(By locator, String elementName, 
                                             ElementCondition condition, 
                                             int timeoutSeconds) {
-        WebDriverWait customWait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
+        Duration timeout = Duration.ofSeconds(timeoutSeconds);
         String conditionName = condition.toString().toLowerCase();
+        String label = label(locator, elementName);
         
+        ActionMetrics.Timer timer = startTimer("waitForElementCondition", label);
         try {
             ExtentReportManager.logInfo("Waiting for element to be " + conditionName + ": " + elementName);
             
             switch(condition) {
                 case VISIBLE:
-                    return customWait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+                    return elementCache.put(locator, waits.until(label, conditionName, timeout,
+                        ExpectedConditions.visibilityOfElementLocated(locator)));
                 case CLICKABLE:
-                    return customWait.until(ExpectedConditions.elementToBeClickable(locator));
+                    return elementCache.put(locator, waits.until(label, conditionName, timeout,
+                        ExpectedConditions.elementToBeClickable(locator)));
                 case PRESENT:
-                    return customWait.until(ExpectedConditions.presenceOfElementLocated(locator));
+                    return elementCache.put(locator, waits.until(label, conditionName, timeout,
+                        ExpectedConditions.presenceOfElementLocated(locator)));
                 default:
                     throw new IllegalArgumentException("Unsupported condition: " + condition);
             }
@@ -408,6 +827,8 @@ public class ActionHelper {
             String error = elementName + " not " + conditionName + " within " + timeoutSeconds + "s";
             ExtentReportManager.logFail(error, error);
             throw e;
+        } finally {
+            stopWaitTimer(timer);
         }
     }
 
@@ -419,10 +840,11 @@ public class ActionHelper {
      */
     public String getElementText(By locator, String elementName) {
         try {
-            String text = waitForVisible(locator, elementName).getText().trim();
+            String text = withRetry(locator, elementName, () -> waitForVisible(locator, elementName).getText().trim());
             ExtentReportManager.logInfo(elementName + " text: " + text);
             return text;
         } catch (Exception e) {
+            propagateSessionLoss(e);
             ExtentReportManager.logWarning("Failed to get text from " + elementName, elementName);
             return "";
         }
@@ -437,34 +859,95 @@ public class ActionHelper {
      */
     public String getElementAttribute(By locator, String attribute, String elementName) {
         try {
-            String value = waitForPresent(locator, elementName).getAttribute(attribute);
+            String value = readPresent(locator, elementName, element -> element.getAttribute(attribute));
             ExtentReportManager.logInfo(elementName + " attribute '" + attribute + "': " + value);
             return value != null ? value : "";
         } catch (Exception e) {
+            propagateSessionLoss(e);
             ExtentReportManager.logWarning("Failed to get attribute from " + elementName, elementName);
             return "";
         }
     }
 
+    // Batched Probes ///////////////////////////////////////////////////////////
+
+    /**
+     * Reads presence, visibility, enabled state, text and attributes of several
+     * elements in a single round trip. Present elements are added to the element cache.
+     * @param locators Elements to probe
+     * @param attributes Attribute names to read from each present element
+     * @return Snapshot of every locator
+     */
+    public PageSnapshot probe(List<By> locators, String... attributes) {
+        PageSnapshot snapshot = withRetry(null, "probe", () -> captureSnapshot(locators, attributes));
+        ExtentReportManager.logInfo("Probed " + snapshot.summary());
+        return snapshot;
+    }
+
+    /**
+     * Polls a batched probe until the page-specific condition holds
+     * @param locators Elements to probe on every poll
+     * @param pageName Descriptive page name for reporting
+     * @param ready Condition the snapshot must satisfy
+     * @return First snapshot that satisfied the condition
+     * @throws IOException 
+     */
+    public PageSnapshot waitForSnapshot(List<By> locators, String pageName, Predicate<PageSnapshot> ready) throws IOException {
+        ActionMetrics.Timer timer = startTimer("waitForSnapshot", pageName);
+        try {
+            ExtentReportManager.logInfo("Waiting for elements of " + pageName);
+            PageSnapshot snapshot = withRetry(null, pageName, () -> waits.until(pageName, "snapshot", DEFAULT_WAIT, d -> {
+                PageSnapshot current = captureSnapshot(locators);
+                return ready.test(current) ? current : null;
+            }));
+            ExtentReportManager.logInfo(pageName + ": " + snapshot.summary());
+            return snapshot;
+        } catch (Exception e) {
+            handleInteractionFailure("wait for page elements", pageName, e);
+            throw e;
+        } finally {
+            stopWaitTimer(timer);
+        }
+    }
+
+    private PageSnapshot captureSnapshot(List<By> locators, String... attributes) {
+        PageSnapshot snapshot = PageSnapshot.capture(driver, locators, Arrays.asList(attributes));
+        for (By locator : locators) {
+            elementCache.put(locator, snapshot.get(locator).getElement());
+        }
+        return snapshot;
+    }
+
     public enum ElementCondition {
         VISIBLE, CLICKABLE, PRESENT
     }
     
     /**
-     * Waits for the page to reach complete ready state
+     * Waits for the page to be ready using the default SPA readiness criteria
      * @param pageDescription Descriptive name of the page for reporting
      * @throws TimeoutException if page doesn't load within configured timeout
      */
     public void waitForPageReadyState(String pageDescription) {
+        waitForPageReady(ReadinessCriteria.forPage(pageDescription));
+    }
+
+    /**
+     * Waits until every readiness signal declared by the page holds
+     * (ready state, DOM quiet window, network idle, route, key element)
+     * @param criteria Page-specific readiness criteria
+     * @throws PageNotLoadedException if page doesn't get ready within configured timeout
+     */
+    public void waitForPageReady(ReadinessCriteria criteria) {
         int timeout = Integer.parseInt(ConfigReader.getProperty("page.load.timeout", "30"));
-        WebDriverWait pageWait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
-        
+        String pageDescription = criteria.getPageName();
+
+        ActionMetrics.Timer timer = startTimer("waitForPageReady", pageDescription);
         try {
-            pageWait.until(d -> {
-            	String readyState = (String) executeJavascript("return document.readyState");
-                return "complete".equals(readyState);
-            });
-            ExtentReportManager.logPass(pageDescription + " loaded successfully", pageDescription);
+            PageReadinessEngine.ReadinessResult result = withRetry(null, pageDescription, () ->
+                new PageReadinessEngine(driver).await(criteria, Duration.ofSeconds(timeout)));
+            elementCache.observeGeneration(result.getGeneration());
+            ExtentReportManager.logPass(pageDescription + " ready in " + result.getElapsedMillis()
+                + " ms (released by " + result.getReleasedBy() + ")", pageDescription);
         } catch (TimeoutException e) {
             String errorMsg = pageDescription + " failed to load within " + timeout + " seconds";
             ExtentReportManager.logFail(errorMsg, errorMsg);
@@ -473,6 +956,8 @@ public class ActionHelper {
             String errorMsg = "Error checking page state: " + e.getMessage();
             ExtentReportManager.logFail(errorMsg, errorMsg);
             throw new WebDriverException(errorMsg, e);
+        } finally {
+            stopWaitTimer(timer);
         }
     }
     
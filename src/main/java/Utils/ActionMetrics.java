@@ -0,0 +1,198 @@
+package Utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free registry of ActionHelper timings keyed by action, element and page.
+ * Each recording is split into time spent waiting (explicit waits, readiness) and time
+ * spent executing WebDriver commands. Exported at suite end as Prometheus text and JSON.
+ * Controlled by metrics.actions.enabled; when off, ActionHelper creates no timers at all.
+ */
+public class ActionMetrics {
+    private static final boolean ENABLED =
+        Boolean.parseBoolean(ConfigReader.getProperty("metrics.actions.enabled", "false"));
+    private static final Map<String, ActionStats> registry = new ConcurrentHashMap<>();
+
+    // Private constructor to prevent instantiation
+    private ActionMetrics() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts timing one action
+     * @param action Action name, e.g. "click"
+     * @param element Element name
+     * @param page Page the ActionHelper belongs to
+     * @param waitMarkNanos Caller's cumulative wait time when the action started
+     * @return Timer, or null when metrics are off
+     */
+    public static Timer start(String action, String element, String page, long waitMarkNanos) {
+        return ENABLED ? new Timer(action, element != null ? element : "-", page, waitMarkNanos) : null;
+    }
+
+    /**
+     * Records an action; the wait share is whatever the caller's wait total grew by meanwhile
+     * @param timer Timer from start(), may be null
+     * @param waitTotalNanos Caller's cumulative wait time now
+     */
+    public static void stop(Timer timer, long waitTotalNanos) {
+        if (timer == null) return;
+        long total = System.nanoTime() - timer.startNanos;
+        long waited = Math.min(total, waitTotalNanos - timer.waitMarkNanos);
+        stats(timer).add(total, waited);
+    }
+
+    /**
+     * Records an action that is a wait as a whole
+     * @param timer Timer from start(), may be null
+     * @return Elapsed nanos to add to the caller's wait total, 0 for a null timer
+     */
+    public static long stopWait(Timer timer) {
+        if (timer == null) return 0;
+        long total = System.nanoTime() - timer.startNanos;
+        stats(timer).add(total, total);
+        return total;
+    }
+
+    private static ActionStats stats(Timer timer) {
+        String key = timer.action + '\u0000' + timer.element + '\u0000' + timer.page;
+        ActionStats stats = registry.get(key);
+        return stats != null ? stats
+            : registry.computeIfAbsent(key, k -> new ActionStats(timer.action, timer.element, timer.page));
+    }
+
+    // Export //////////////////////////////////////////////////////////////////
+
+    /**
+     * Writes actions.prom and actions.json into the report's metrics folder
+     * @return Folder the files were written to, or null when metrics are off
+     */
+    public static Path export() throws IOException {
+        if (!ENABLED) return null;
+        Path dir = Paths.get(ExtentReportManager.REPORT_BASE_PATH, "metrics");
+        Files.createDirectories(dir);
+        Files.write(dir.resolve("actions.prom"), toPrometheus().getBytes(StandardCharsets.UTF_8));
+        Files.write(dir.resolve("actions.json"), toJson().getBytes(StandardCharsets.UTF_8));
+        return dir;
+    }
+
+    public static String toPrometheus() {
+        List<ActionStats> all = new ArrayList<>(registry.values());
+        StringBuilder out = new StringBuilder();
+        appendMetric(out, all, "automation_action_count_total", "counter", "Number of recorded actions", 0);
+        appendMetric(out, all, "automation_action_wait_seconds_total", "counter", "Time spent waiting", 1);
+        appendMetric(out, all, "automation_action_exec_seconds_total", "counter", "Time spent executing WebDriver commands", 2);
+        appendMetric(out, all, "automation_action_max_seconds", "gauge", "Slowest single action", 3);
+        return out.toString();
+    }
+
+    private static void appendMetric(StringBuilder out, List<ActionStats> all, String name, String type, String help, int field) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        for (ActionStats stats : all) {
+            out.append(name)
+               .append("{action=\"").append(escapePrometheus(stats.action))
+               .append("\",element=\"").append(escapePrometheus(stats.element))
+               .append("\",page=\"").append(escapePrometheus(stats.page)).append("\"} ");
+            switch (field) {
+                case 0: out.append(stats.count.sum()); break;
+                case 1: out.append(seconds(stats.waitNanos.sum())); break;
+                case 2: out.append(seconds(stats.execNanos.sum())); break;
+                default: out.append(seconds(stats.maxNanos.get())); break;
+            }
+            out.append('\n');
+        }
+    }
+
+    public static String toJson() {
+        StringBuilder out = new StringBuilder("[");
+        boolean first = true;
+        for (ActionStats stats : registry.values()) {
+            if (!first) out.append(',');
+            first = false;
+            out.append("\n  {\"action\": \"").append(escapeJson(stats.action))
+               .append("\", \"element\": \"").append(escapeJson(stats.element))
+               .append("\", \"page\": \"").append(escapeJson(stats.page))
+               .append("\", \"count\": ").append(stats.count.sum())
+               .append(", \"waitSeconds\": ").append(seconds(stats.waitNanos.sum()))
+               .append(", \"execSeconds\": ").append(seconds(stats.execNanos.sum()))
+               .append(", \"maxSeconds\": ").append(seconds(stats.maxNanos.get()))
+               .append('}');
+        }
+        return out.append("\n]\n").toString();
+    }
+
+    private static String seconds(long nanos) {
+        return String.valueOf(nanos / 1e9);
+    }
+
+    private static String escapePrometheus(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder out = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') out.append('\\').append(c);
+            else if (c < 0x20) out.append(String.format("\\u%04x", (int) c));
+            else out.append(c);
+        }
+        return out.toString();
+    }
+
+    /**
+     * Start of one timed action
+     */
+    public static final class Timer {
+        private final String action;
+        private final String element;
+        private final String page;
+        private final long waitMarkNanos;
+        private final long startNanos = System.nanoTime();
+
+        private Timer(String action, String element, String page, long waitMarkNanos) {
+            this.action = action;
+            this.element = element;
+            this.page = page;
+            this.waitMarkNanos = waitMarkNanos;
+        }
+    }
+
+    /**
+     * Accumulated timings of one action/element/page combination
+     */
+    private static final class ActionStats {
+        private final String action;
+        private final String element;
+        private final String page;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder execNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private ActionStats(String action, String element, String page) {
+            this.action = action;
+            this.element = element;
+            this.page = page;
+        }
+
+        private void add(long totalNanos, long waitedNanos) {
+            count.increment();
+            waitNanos.add(waitedNanos);
+            execNanos.add(totalNanos - waitedNanos);
+            maxNanos.accumulate(totalNanos);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package Utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Per-session cache of resolved element handles keyed by locator.
+ * Entries belong to one DOM generation: the document instance plus its client-side
+ * route change count, as reported by the readiness probe. A new generation, an explicit
+ * navigation or any mutating ActionHelper action (click, typing, selects, form fills) drops
+ * every entry, since a partial re-render can leave an old node attached that no longer is
+ * what the locator matches; a handle whose node was replaced surfaces as
+ * StaleElementReferenceException and is evicted so the caller can re-resolve it.
+ * Disable with element.cache.enabled=false.
+ */
+public class ElementCache {
+    private static final Map<WebDriver, ElementCache> caches = new ConcurrentHashMap<>();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong staleEvictions = new AtomicLong();
+
+    private final Map<By, WebElement> elements = new ConcurrentHashMap<>();
+    private volatile String generation;
+
+    private ElementCache() {}
+
+    /**
+     * @param driver Active session
+     * @return Cache shared by every ActionHelper working on that session
+     */
+    public static ElementCache forDriver(WebDriver driver) {
+        return caches.computeIfAbsent(driver, d -> new ElementCache());
+    }
+
+    /**
+     * Drops the cache of a session that is being reset or quit
+     * @param driver Session leaving its current scenario
+     */
+    public static void detach(WebDriver driver) {
+        caches.remove(driver);
+    }
+
+    /**
+     * @param locator Element locator
+     * @return Cached handle, or null on a miss
+     */
+    public WebElement get(By locator) {
+        if (!isEnabled()) return null;
+        WebElement element = elements.get(locator);
+        (element != null ? hits : misses).incrementAndGet();
+        return element;
+    }
+
+    /**
+     * Caches a freshly resolved handle
+     * @return The same element, for chaining
+     */
+    public WebElement put(By locator, WebElement element) {
+        if (element != null && isEnabled()) elements.put(locator, element);
+        return element;
+    }
+
+    /**
+     * Evicts a handle that went stale
+     */
+    public void evict(By locator) {
+        if (elements.remove(locator) != null) staleEvictions.incrementAndGet();
+    }
+
+    /**
+     * Drops every entry, e.g. after a full navigation
+     */
+    public void invalidate() {
+        elements.clear();
+        generation = null;
+    }
+
+    /**
+     * Drops every entry if the page moved on to a new DOM generation
+     * @param token Generation token read by PageReadinessEngine
+     */
+    public void observeGeneration(String token) {
+        if (token != null && !token.equals(generation)) {
+            elements.clear();
+            generation = token;
+        }
+    }
+
+    private static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("element.cache.enabled", "true"));
+    }
+
+    /**
+     * @return One-line summary of lookups served from the cache versus WebDriver find commands
+     */
+    public static String summary() {
+        long hitCount = hits.get();
+        long lookups = hitCount + misses.get();
+        return String.format("%d hits, %d misses, %d stale evictions, hit rate %.1f%%",
+            hitCount, misses.get(), staleEvictions.get(), lookups == 0 ? 0 : hitCount * 100.0 / lookups);
+    }
+}
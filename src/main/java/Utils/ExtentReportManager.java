@@ -3,30 +3,39 @@ package Utils;
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.MediaEntityBuilder;
+import com.aventstack.extentreports.Status;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.ExtentSparkReporterConfig;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages thread-safe Extent Reports for test automation framework.
  * Handles report creation, test logging, and report cleanup.
  * Supports parallel test execution through ThreadLocal management.
+ * Logging takes no shared lock: each thread's individual report is only touched by that
+ * thread, and entries for the shared consolidated report are buffered per thread and
+ * merged under its lock once per scenario (endTest/flushReport).
  */
 public class ExtentReportManager {
 	// Individual report components
-    private static final Map<Long, ExtentReports> individualReports = new HashMap<>();
+    private static final Map<Long, ExtentReports> individualReports = new ConcurrentHashMap<>();
     private static final ThreadLocal<ExtentTest> individualTest = new ThreadLocal<>();
     
     // Consolidated report components
     private static ExtentReports consolidatedReport;
     private static ExtentSparkReporter consolidatedSpark;
     private static final ThreadLocal<ExtentTest> consolidatedTest = new ThreadLocal<>();
+    private static final ThreadLocal<List<PendingLog>> consolidatedLogs = ThreadLocal.withInitial(ArrayList::new);
+    // Guards the consolidated report, which all threads share
+    private static final Object consolidatedLock = new Object();
     
     // Shared configuration
     private static final String TIMESTAMP = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
@@ -37,7 +46,9 @@ public class ExtentReportManager {
         initializeConsolidatedReport();
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             if (consolidatedReport != null) {
-                consolidatedReport.flush();
+                synchronized (consolidatedLock) {
+                    consolidatedReport.flush();
+                }
             }
         }));
     }
@@ -84,8 +95,11 @@ public class ExtentReportManager {
     /**
      * Starts test in both individual and consolidated reports
      */
-    public static synchronized void startTest(String testName, String description, 
+    public static void startTest(String testName, String description, 
                                            String browser, String env) {
+        // Entries of a test that was never ended on this thread
+        endTest();
+
         // Individual report setup
         ExtentReports individualReport = individualReports.computeIfAbsent(
             Thread.currentThread().getId(), 
@@ -98,37 +112,55 @@ public class ExtentReportManager {
         individualTest.set(testInstance);
 
         // Consolidated report setup
-        ExtentTest consolidatedTestInstance = consolidatedReport.createTest(testName, description)
-            .assignDevice(browser)
-            .assignCategory(env);
-        consolidatedTest.set(consolidatedTestInstance);
+        synchronized (consolidatedLock) {
+            ExtentTest consolidatedTestInstance = consolidatedReport.createTest(testName, description)
+                .assignDevice(browser)
+                .assignCategory(env);
+            consolidatedTest.set(consolidatedTestInstance);
+        }
+    }
+
+    /**
+     * Merges the current thread's buffered entries into the consolidated report
+     * Called at scenario end; safe to call more than once
+     */
+    public static void endTest() {
+        List<PendingLog> pending = consolidatedLogs.get();
+        ExtentTest test = consolidatedTest.get();
+        if (test != null && !pending.isEmpty()) {
+            synchronized (consolidatedLock) {
+                for (PendingLog entry : pending) {
+                    test.log(entry.status, entry.message);
+                }
+            }
+        }
+        pending.clear();
     }
     
-    private static void logToBothReports(java.util.function.Consumer<ExtentTest> logAction) {
+    private static void logToBothReports(Status status, String message) {
         if (individualTest.get() != null) {
-            logAction.accept(individualTest.get());
+            individualTest.get().log(status, message);
         }
         if (consolidatedTest.get() != null) {
-            logAction.accept(consolidatedTest.get());
+            consolidatedLogs.get().add(new PendingLog(status, message));
         }
     }
 
     /**
      * Logs info with screenshot to both reports
      */
-    public static synchronized void logInfo(String message, String screenshotFile) {
+    public static void logInfo(String message, String screenshotFile) {
         if (screenshotFile != null) {
-            logToBothReports(test -> test.info(message + " " + buildScreenshotLink(screenshotFile)));
+            logToBothReports(Status.INFO, message + " " + buildScreenshotLink(screenshotFile));
         } else {
-            logToBothReports(test -> test.info(message));
+            logToBothReports(Status.INFO, message);
         }
     }
 
     
     // Text-only logging methods
-    public static synchronized void logTxtInfo(String message) {
-        if (individualTest.get() != null) individualTest.get().info(message);
-        if (consolidatedTest.get() != null) consolidatedTest.get().info(message);
+    public static void logTxtInfo(String message) {
+        logToBothReports(Status.INFO, message);
     }
 
    
@@ -137,11 +169,11 @@ public class ExtentReportManager {
      * @param message Success message to log
      * @param screenshotFile Name of the screenshot file
      */
-    public static synchronized void logPass(String message, String screenshotFile) {
+    public static void logPass(String message, String screenshotFile) {
         if (screenshotFile != null) {
-            logToBothReports(test -> test.pass(message + " " + buildScreenshotLink(screenshotFile)));
+            logToBothReports(Status.PASS, message + " " + buildScreenshotLink(screenshotFile));
         } else {
-            logToBothReports(test -> test.pass(message));
+            logToBothReports(Status.PASS, message);
         }
     }
 
@@ -152,11 +184,11 @@ public class ExtentReportManager {
      * @param message Failure message to log
      * @param screenshotFile Name of the screenshot file
      */
-    public static synchronized void logFail(String message, String screenshotFile) {
+    public static void logFail(String message, String screenshotFile) {
         if (screenshotFile != null) {
-            logToBothReports(test -> test.fail(message + " " + buildScreenshotLink(screenshotFile)));
+            logToBothReports(Status.FAIL, message + " " + buildScreenshotLink(screenshotFile));
         } else {
-            logToBothReports(test -> test.fail(message));
+            logToBothReports(Status.FAIL, message);
         }
     }
 
@@ -167,11 +199,11 @@ public class ExtentReportManager {
      * @param message Warning message to log
      * @param screenshotFile Name of the screenshot file
      */
-    public static synchronized void logWarning(String message, String screenshotFile) {
+    public static void logWarning(String message, String screenshotFile) {
         if (screenshotFile != null) {
-            logToBothReports(test -> test.warning(message + " " + buildScreenshotLink(screenshotFile)));
+            logToBothReports(Status.WARNING, message + " " + buildScreenshotLink(screenshotFile));
         } else {
-            logToBothReports(test -> test.warning(message));
+            logToBothReports(Status.WARNING, message);
         }
     }
 
@@ -180,13 +212,8 @@ public class ExtentReportManager {
      * Logs an INFO message without screenshot in both reports
      * @param message Information message to log
      */
-    public static synchronized void logInfo(String message) {
-        if (individualTest.get() != null) {
-            individualTest.get().info(message);
-        }
-        if (consolidatedTest.get() != null) {
-            consolidatedTest.get().info(message);
-        }
+    public static void logInfo(String message) {
+        logToBothReports(Status.INFO, message);
     }
 
     /**
@@ -194,14 +221,16 @@ public class ExtentReportManager {
      * @param key Information key (e.g., "Browser")
      * @param value Information value (e.g., "Chrome 101")
      */
-    public static synchronized void addSystemInfo(String key, String value) {
+    public static void addSystemInfo(String key, String value) {
         Long threadId = Thread.currentThread().getId();
         ExtentReports individual = individualReports.get(threadId);
         if (individual != null) {
             individual.setSystemInfo(key, value);
         }
         if (consolidatedReport != null) {
-            consolidatedReport.setSystemInfo(key, value);
+            synchronized (consolidatedLock) {
+                consolidatedReport.setSystemInfo(key, value);
+            }
         }
     }
 
@@ -210,8 +239,9 @@ public class ExtentReportManager {
      * Flushes the report and cleans up ThreadLocal resources
      * Removes current thread's report from the map
      */
-    public static synchronized void flushReport() {
+    public static void flushReport() {
         Long threadId = Thread.currentThread().getId();
+        endTest();
         
         // Flush individual report
         ExtentReports individual = individualReports.get(threadId);
@@ -228,12 +258,14 @@ public class ExtentReportManager {
     /**
      * Assigns device information safely
      */
-    public static synchronized void assignDevice(String browserName) {
+    public static void assignDevice(String browserName) {
         if (individualTest.get() != null) {
             individualTest.get().assignDevice(browserName);
         }
         if (consolidatedTest.get() != null) {
-            consolidatedTest.get().assignDevice(browserName);
+            synchronized (consolidatedLock) {
+                consolidatedTest.get().assignDevice(browserName);
+            }
         }
     }
     
@@ -242,9 +274,24 @@ public class ExtentReportManager {
      * For integrating links in reports. We will use this in our logs.
      */
     private static String buildScreenshotLink(String fileName) {
+        String thumbnail = ScreenshotStore.getThumbnail(fileName);
+        if (thumbnail != null) {
+            return "<a href='screenshots/" + fileName + "' target='_blank'><img src='screenshots/" + thumbnail
+                + "' alt='📸 View Screenshot'></a>";
+        }
         return "<a href='screenshots/" + fileName + "' target='_blank'>📸 View Screenshot</a>";
     }
 
+    private static class PendingLog {
+        private final Status status;
+        private final String message;
+
+        private PendingLog(Status status, String message) {
+            this.status = status;
+            this.message = message;
+        }
+    }
+
 
    
 }
\ No newline at end of file
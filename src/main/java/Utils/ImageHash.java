@@ -0,0 +1,79 @@
+package Utils;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import javax.imageio.ImageIO;
+
+/**
+ * 256-bit difference hash (dHash) of an image: the image is reduced to a 17x16 grid of
+ * average luminance and each bit records whether a cell is brighter than its right-hand
+ * neighbour. Frames that look the same give the same or nearly the same hash, so the
+ * Hamming distance between hashes is a cheap similarity test before any pixel work.
+ */
+public class ImageHash {
+    private static final int COLUMNS = 17;
+    private static final int ROWS = 16;
+    // Pixels sampled per cell side; large screenshots are not read pixel by pixel
+    private static final int SAMPLES = 8;
+
+    // Private constructor to prevent instantiation
+    private ImageHash() {}
+
+    /**
+     * @param encoded PNG/JPEG bytes
+     * @return Hash of the image, null if it cannot be decoded
+     * @throws IOException
+     */
+    public static long[] of(byte[] encoded) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(encoded));
+        return image == null ? null : of(image);
+    }
+
+    public static long[] of(BufferedImage image) {
+        double[][] luminance = new double[ROWS][COLUMNS];
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS; column++) {
+                luminance[row][column] = cellLuminance(image,
+                    column * image.getWidth() / COLUMNS, (column + 1) * image.getWidth() / COLUMNS,
+                    row * image.getHeight() / ROWS, (row + 1) * image.getHeight() / ROWS);
+            }
+        }
+        long[] hash = new long[ROWS * (COLUMNS - 1) / 64];
+        int bit = 0;
+        for (int row = 0; row < ROWS; row++) {
+            for (int column = 0; column < COLUMNS - 1; column++, bit++) {
+                if (luminance[row][column] > luminance[row][column + 1]) {
+                    hash[bit / 64] |= 1L << (bit % 64);
+                }
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * @return Number of differing bits, 0 for visually identical frames
+     */
+    public static int distance(long[] a, long[] b) {
+        int distance = 0;
+        for (int i = 0; i < a.length; i++) {
+            distance += Long.bitCount(a[i] ^ b[i]);
+        }
+        return distance;
+    }
+
+    private static double cellLuminance(BufferedImage image, int x0, int x1, int y0, int y1) {
+        int stepX = Math.max(1, (x1 - x0) / SAMPLES);
+        int stepY = Math.max(1, (y1 - y0) / SAMPLES);
+        double sum = 0;
+        int count = 0;
+        for (int y = y0; y < Math.max(y1, y0 + 1) && y < image.getHeight(); y += stepY) {
+            for (int x = x0; x < Math.max(x1, x0 + 1) && x < image.getWidth(); x += stepX) {
+                int rgb = image.getRGB(x, y);
+                sum += 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+                count++;
+            }
+        }
+        return count == 0 ? 0 : sum / count;
+    }
+}
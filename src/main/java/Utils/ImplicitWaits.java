@@ -0,0 +1,71 @@
+package Utils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implicit wait configuration and the wall time it costs.
+ * By default sessions keep their implicit wait (timeout.implicit) and each lookup that
+ * finds nothing blocks for it; that blocked time is summed here for the run report.
+ * A run opts into waits.explicit.only=true (config or -Dwaits.explicit.only=true) to drop
+ * the implicit wait, so every lookup goes through WaitEngine or findElements and a
+ * correctly absent element is reported in milliseconds.
+ */
+public class ImplicitWaits {
+    private static final int DEFAULT_TIMEOUT = 15;
+    private static final AtomicLong blockedNanos = new AtomicLong();
+    private static final AtomicLong blockedLookups = new AtomicLong();
+
+    // Private constructor to prevent instantiation
+    private ImplicitWaits() {}
+
+    public static boolean isExplicitOnly() {
+        return Boolean.parseBoolean(System.getProperty("waits.explicit.only",
+            ConfigReader.getProperty("waits.explicit.only", "false")).trim());
+    }
+
+    /**
+     * @return Implicit wait to apply to new sessions, zero in explicit-only mode
+     */
+    public static Duration configured() {
+        if (isExplicitOnly()) return Duration.ZERO;
+        return Duration.ofSeconds(
+            Integer.parseInt(ConfigReader.getProperty("timeout.implicit", String.valueOf(DEFAULT_TIMEOUT)))
+        );
+    }
+
+    /**
+     * Records a lookup that found nothing; with an implicit wait active its whole
+     * duration was spent waiting for the driver to give up
+     * @param startNanos System.nanoTime() taken before the lookup
+     */
+    public static void recordMiss(long startNanos) {
+        if (isExplicitOnly()) return;
+        blockedNanos.addAndGet(System.nanoTime() - startNanos);
+        blockedLookups.incrementAndGet();
+    }
+
+    /**
+     * Records a lookup whose outcome is hidden, e.g. a condition that returned null,
+     * as a miss if it took at least the implicit wait to come back
+     * @param startNanos System.nanoTime() taken before the lookup
+     */
+    public static void recordIfBlocked(long startNanos) {
+        if (isExplicitOnly()) return;
+        long implicitNanos = configured().toNanos();
+        if (implicitNanos > 0 && System.nanoTime() - startNanos >= implicitNanos) recordMiss(startNanos);
+    }
+
+    public static double getBlockedSeconds() {
+        return TimeUnit.NANOSECONDS.toMillis(blockedNanos.get()) / 1000.0;
+    }
+
+    /**
+     * @return One-line summary for logs and report system info
+     */
+    public static String summary() {
+        if (isExplicitOnly()) return "disabled (waits.explicit.only=true)";
+        return String.format("%d empty lookups blocked %.1f s", blockedLookups.get(), getBlockedSeconds());
+    }
+}
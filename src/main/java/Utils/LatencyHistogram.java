@@ -0,0 +1,83 @@
+package Utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with fixed, roughly logarithmic millisecond buckets.
+ * Percentiles resolve to the upper bound of the bucket they fall in, which is
+ * precise enough to pick wait timeouts and polling intervals.
+ */
+public class LatencyHistogram {
+    private static final long[] BUCKET_BOUNDS_MILLIS = {
+        1, 2, 5, 10, 20, 35, 50, 75, 100, 150, 200, 300, 500, 750,
+        1_000, 1_500, 2_000, 3_000, 5_000, 10_000, 15_000, 30_000, 60_000, Long.MAX_VALUE
+    };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MILLIS.length);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+
+    /**
+     * Records one successful wait
+     * @param nanos Time until the condition held
+     */
+    public void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (millis >= BUCKET_BOUNDS_MILLIS[bucket]) bucket++;
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Records a wait that ran into its timeout; kept apart so it does not skew percentiles
+     */
+    public void recordTimeout() {
+        timeouts.incrementAndGet();
+    }
+
+    /**
+     * @param percentile Fraction between 0 and 1, e.g. 0.99
+     * @return Upper bound in ms of the bucket holding that percentile, 0 if nothing was recorded
+     */
+    public long percentileMillis(double percentile) {
+        long total = count.get();
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(total * percentile));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(BUCKET_BOUNDS_MILLIS[i], getMaxMillis());
+            }
+        }
+        return getMaxMillis();
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+
+    public double getMeanMillis() {
+        long total = count.get();
+        return total == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.get()) / 1000.0 / total;
+    }
+
+    public long getMaxMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+    }
+}
@@ -0,0 +1,280 @@
+package Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Profiling mode for page-object locators (locator.profile=true).
+ * Every By constant declared in the Pages package is found by reflection and resolved
+ * against the live page after each step: resolution time, match count and a shorter
+ * id/attribute/CSS selector computed from the resolved element are collected. At suite
+ * end a ranked report of the slowest and most fragile locators is written next to the
+ * Extent report, with the suggested replacement for each.
+ */
+public class LocatorProfiler {
+    private static final String PAGES_PACKAGE = "Pages";
+    private static final int SAMPLES_PER_PROBE = 3;
+    private static final Pattern POSITIONAL_STEP = Pattern.compile("\\[\\d+\\]|:nth-child\\(|:nth-of-type\\(");
+
+    private static final Map<String, LocatorProfile> profiles = new ConcurrentHashMap<>();
+    private static volatile Map<String, By> pageLocators;
+
+    // Builds the shortest selector that still matches only this element
+    private static final String SUGGEST_SCRIPT =
+        "var el = arguments[0], tag = el.tagName.toLowerCase();" +
+        "var unique = function(sel) {" +
+        "  try { var all = document.querySelectorAll(sel); return all.length === 1 && all[0] === el; }" +
+        "  catch (e) { return false; }" +
+        "};" +
+        "var quote = function(v) { return '\"' + v.replace(/\\\\/g, '\\\\\\\\').replace(/\"/g, '\\\\\"') + '\"'; };" +
+        "var generated = /\\d{3,}|^mantine-|^:r|^m_[0-9a-f]+$/;" +
+        "var candidates = [];" +
+        "if (el.id && !generated.test(el.id)) candidates.push('#' + CSS.escape(el.id));" +
+        "['data-testid', 'data-test', 'data-qa', 'name', 'aria-label', 'placeholder', 'alt', 'title', 'href', 'type']" +
+        "  .forEach(function(a) { var v = el.getAttribute(a); if (v) candidates.push(tag + '[' + a + '=' + quote(v) + ']'); });" +
+        "Array.prototype.forEach.call(el.classList, function(c) {" +
+        "  if (!generated.test(c)) candidates.push(tag + '.' + CSS.escape(c));" +
+        "});" +
+        "for (var i = 0; i < candidates.length; i++) if (unique(candidates[i])) return 'css:' + candidates[i];" +
+        "for (var p = el.parentElement, depth = 0; p && depth < 4; p = p.parentElement, depth++) {" +
+        "  if (p.id && !generated.test(p.id)) {" +
+        "    for (var j = 0; j < candidates.length; j++) {" +
+        "      var scoped = '#' + CSS.escape(p.id) + ' ' + candidates[j];" +
+        "      if (unique(scoped)) return 'css:' + scoped;" +
+        "    }" +
+        "    if (unique('#' + CSS.escape(p.id) + ' ' + tag)) return 'css:#' + CSS.escape(p.id) + ' ' + tag;" +
+        "  }" +
+        "}" +
+        "var text = (el.innerText || '').trim();" +
+        "if (text && text.length <= 40 && text.indexOf('\"') < 0) {" +
+        "  var xpath = '//' + tag + '[normalize-space()=\"' + text + '\"]';" +
+        "  if (document.evaluate('count(' + xpath + ')', document, null, XPathResult.NUMBER_TYPE, null).numberValue === 1)" +
+        "    return 'xpath:' + xpath;" +
+        "}" +
+        "return null;";
+
+    // Private constructor to prevent instantiation
+    private LocatorProfiler() {}
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("locator.profile", "false"));
+    }
+
+    /**
+     * Resolves every page-object locator against the current page and records the results.
+     * The implicit wait is switched off meanwhile so locators of other pages cost nothing.
+     * @param driver Active session
+     */
+    public static void profile(WebDriver driver) {
+        driver.manage().timeouts().implicitlyWait(Duration.ZERO);
+        try {
+            for (Map.Entry<String, By> entry : getPageLocators().entrySet()) {
+                profileLocator(driver, entry.getKey(), entry.getValue());
+            }
+        } finally {
+            driver.manage().timeouts().implicitlyWait(ImplicitWaits.configured());
+        }
+    }
+
+    private static void profileLocator(WebDriver driver, String name, By locator) {
+        long best = Long.MAX_VALUE;
+        List<WebElement> matches = null;
+        for (int i = 0; i < SAMPLES_PER_PROBE; i++) {
+            long start = System.nanoTime();
+            matches = driver.findElements(locator);
+            best = Math.min(best, System.nanoTime() - start);
+            if (matches.isEmpty()) return;  // not on this page
+        }
+        LocatorProfile profile = profiles.computeIfAbsent(name, k -> new LocatorProfile(name, locator));
+        String suggestion = null;
+        try {
+            suggestion = (String) ((JavascriptExecutor) driver).executeScript(SUGGEST_SCRIPT, matches.get(0));
+        } catch (Exception e) {
+            // Element went away between resolution and analysis; keep the timing only
+        }
+        profile.record(best, matches.size(), suggestion);
+    }
+
+    // Locator Discovery ///////////////////////////////////////////////////////
+
+    /**
+     * @return Every static By field in the Pages package, keyed by "Class.field"
+     */
+    static Map<String, By> getPageLocators() {
+        if (pageLocators == null) {
+            synchronized (LocatorProfiler.class) {
+                if (pageLocators == null) pageLocators = scanPageLocators();
+            }
+        }
+        return pageLocators;
+    }
+
+    private static Map<String, By> scanPageLocators() {
+        Map<String, By> locators = new LinkedHashMap<>();
+        for (String className : findPageClasses()) {
+            try {
+                Class<?> pageClass = Class.forName(className);
+                for (Field field : pageClass.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) || !By.class.isAssignableFrom(field.getType())) continue;
+                    field.setAccessible(true);
+                    By locator = (By) field.get(null);
+                    if (locator != null) locators.put(pageClass.getSimpleName() + "." + field.getName(), locator);
+                }
+            } catch (ReflectiveOperationException e) {
+                System.err.println("WARNING: Cannot read locators of " + className + ": " + e.getMessage());
+            }
+        }
+        return locators;
+    }
+
+    private static List<String> findPageClasses() {
+        List<String> classNames = new ArrayList<>();
+        try {
+            Enumeration<URL> roots = LocatorProfiler.class.getClassLoader().getResources(PAGES_PACKAGE);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                if ("jar".equals(root.getProtocol())) {
+                    JarFile jar = ((JarURLConnection) root.openConnection()).getJarFile();
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        String entry = entries.nextElement().getName();
+                        if (entry.startsWith(PAGES_PACKAGE + "/") && isTopLevelClass(entry)) {
+                            classNames.add(entry.substring(0, entry.length() - 6).replace('/', '.'));
+                        }
+                    }
+                } else {
+                    File[] files = new File(URLDecoder.decode(root.getFile(), "UTF-8")).listFiles();
+                    if (files == null) continue;
+                    for (File file : files) {
+                        if (isTopLevelClass(file.getName())) {
+                            classNames.add(PAGES_PACKAGE + "." + file.getName().replace(".class", ""));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("WARNING: Cannot scan " + PAGES_PACKAGE + " for page objects: " + e.getMessage());
+        }
+        return classNames;
+    }
+
+    private static boolean isTopLevelClass(String fileName) {
+        return fileName.endsWith(".class") && !fileName.contains("$");
+    }
+
+    // Report //////////////////////////////////////////////////////////////////
+
+    /**
+     * Writes locator-profile.txt next to the Extent report
+     * @return Report file, or null if nothing was profiled
+     */
+    public static Path writeReport() throws IOException {
+        if (profiles.isEmpty()) return null;
+        Path file = Paths.get(ExtentReportManager.REPORT_BASE_PATH, "locator-profile.txt");
+        Files.createDirectories(file.getParent());
+        Files.write(file, report().getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    /**
+     * @return Ranked report: most fragile first, then the slowest to resolve
+     */
+    public static String report() {
+        List<LocatorProfile> all = new ArrayList<>(profiles.values());
+        StringBuilder out = new StringBuilder();
+
+        all.sort(Comparator.comparingDouble(LocatorProfile::fragility).reversed());
+        out.append("Most fragile locators\n");
+        for (LocatorProfile profile : all) out.append(profile.describe()).append('\n');
+
+        all.sort(Comparator.comparingLong(LocatorProfile::bestNanos).reversed());
+        out.append("\nSlowest locators\n");
+        for (LocatorProfile profile : all) out.append(profile.describe()).append('\n');
+
+        List<String> unseen = new ArrayList<>(getPageLocators().keySet());
+        unseen.removeAll(profiles.keySet());
+        if (!unseen.isEmpty()) {
+            out.append("\nNever matched during the run\n");
+            for (String name : unseen) out.append("  ").append(name).append(" = ").append(getPageLocators().get(name)).append('\n');
+        }
+        return out.toString();
+    }
+
+    /**
+     * Everything learned about one page-object locator
+     */
+    private static class LocatorProfile {
+        private final String name;
+        private final By locator;
+        private long bestNanos = Long.MAX_VALUE;
+        private int maxMatches;
+        private String suggestion;
+
+        private LocatorProfile(String name, By locator) {
+            this.name = name;
+            this.locator = locator;
+        }
+
+        private synchronized void record(long nanos, int matches, String suggested) {
+            bestNanos = Math.min(bestNanos, nanos);
+            maxMatches = Math.max(maxMatches, matches);
+            if (suggested != null) suggestion = suggested;
+        }
+
+        private synchronized long bestNanos() {
+            return bestNanos;
+        }
+
+        /**
+         * Heuristic: positional steps and deep absolute paths break on layout changes,
+         * ambiguous locators break as soon as element order changes
+         */
+        private synchronized double fragility() {
+            String text = locator.toString();
+            double score = text.length() / 20.0;
+            Matcher positional = POSITIONAL_STEP.matcher(text);
+            while (positional.find()) score += 2;
+            if (text.startsWith("By.xpath")) {
+                score += 1 + text.split("/").length * 0.5;
+            } else if (text.startsWith("By.cssSelector")) {
+                score += text.split(">").length * 0.5;
+            }
+            if (maxMatches > 1) score += 5;
+            return score;
+        }
+
+        private synchronized String describe() {
+            String replacement = suggestion == null ? "no shorter selector found"
+                : suggestion.startsWith("css:") ? "By.cssSelector(\"" + suggestion.substring(4).replace("\"", "\\\"") + "\")"
+                : "By.xpath(\"" + suggestion.substring(6).replace("\"", "\\\"") + "\")";
+            return String.format("  %-28s fragility %5.1f  %7.2f ms  %s%n      %s%n      suggest: %s",
+                name, fragility(), bestNanos / 1_000_000.0,
+                maxMatches > 1 ? maxMatches + " matches" : "unique", locator, replacement);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package Utils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Readiness detection for client-routed pages where document.readyState stays "complete".
+ * An injected probe tracks DOM mutations (MutationObserver), in-flight fetch/XHR calls and
+ * history route changes; a wait is released once every signal in the page's
+ * ReadinessCriteria holds in the same poll. Polling backs off through WaitEngine.
+ */
+public class PageReadinessEngine {
+    /**
+     * Installs the probe once per document. Also registered through CDP on Chromium
+     * sessions so it is present before the application's own scripts run.
+     */
+    public static final String PROBE_SCRIPT =
+        "(function() {" +
+        "  if (window.__automationReadiness) return;" +
+        "  var r = window.__automationReadiness = { lastMutation: Date.now(), mutations: 0, inflight: 0, routeChanges: 0," +
+        "    documentId: Math.random().toString(36).slice(2) };" +
+        "  new MutationObserver(function() { r.lastMutation = Date.now(); r.mutations++; })" +
+        "    .observe(document, { childList: true, subtree: true, attributes: true, characterData: true });" +
+        "  var done = function() { r.inflight = Math.max(0, r.inflight - 1); };" +
+        "  if (window.fetch) {" +
+        "    var originalFetch = window.fetch;" +
+        "    window.fetch = function() {" +
+        "      r.inflight++;" +
+        "      try { var p = originalFetch.apply(this, arguments); p.then(done, done); return p; }" +
+        "      catch (e) { done(); throw e; }" +
+        "    };" +
+        "  }" +
+        "  var originalSend = XMLHttpRequest.prototype.send;" +
+        "  XMLHttpRequest.prototype.send = function() {" +
+        "    r.inflight++; this.addEventListener('loadend', done);" +
+        "    return originalSend.apply(this, arguments);" +
+        "  };" +
+        "  var routed = function() { r.routeChanges++; r.lastMutation = Date.now(); };" +
+        "  ['pushState', 'replaceState'].forEach(function(m) {" +
+        "    var original = history[m];" +
+        "    history[m] = function() { var result = original.apply(this, arguments); routed(); return result; };" +
+        "  });" +
+        "  window.addEventListener('popstate', routed);" +
+        "})();";
+
+    private static final String STATE_SCRIPT =
+        PROBE_SCRIPT +
+        "var r = window.__automationReadiness;" +
+        "return { readyState: document.readyState, quietFor: Date.now() - r.lastMutation," +
+        "  inflight: r.inflight, routeChanges: r.routeChanges, url: location.href," +
+        "  generation: r.documentId + ':' + r.routeChanges," +
+        "  element: arguments[0] ? document.querySelector(arguments[0]) !== null : true };";
+
+    private final WebDriver driver;
+
+    public PageReadinessEngine(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Polls the injected probe until every signal required by the criteria holds
+     * @param criteria Page-specific readiness criteria
+     * @param timeout Maximum time to wait
+     * @return Duration of the wait and the signal that released it
+     * @throws TimeoutException if the page is not ready in time
+     */
+    public ReadinessResult await(ReadinessCriteria criteria, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        WaitEngine.Backoff backoff = WaitEngine.backoff();
+        String pending = null;
+        String releasedBy = "already-ready";
+
+        while (true) {
+            Map<String, Object> state = readState(criteria);
+            String unsatisfied = firstUnsatisfied(evaluate(criteria, state));
+            if (unsatisfied == null) {
+                if (pending != null) releasedBy = pending;
+                long elapsedNanos = System.nanoTime() - start;
+                WaitEngine.record(criteria.getPageName(), "page-ready", elapsedNanos);
+                long elapsed = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+                return new ReadinessResult(elapsed, releasedBy, String.valueOf(state.get("generation")));
+            }
+            pending = unsatisfied;
+            if (System.nanoTime() > deadline) {
+                throw new TimeoutException(criteria.getPageName() + " not ready, still waiting on " + pending);
+            }
+            backoff.pause(deadline);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> readState(ReadinessCriteria criteria) {
+        return (Map<String, Object>)
+            ((JavascriptExecutor) driver).executeScript(STATE_SCRIPT, criteria.getReadySelector());
+    }
+
+    private static Map<String, Boolean> evaluate(ReadinessCriteria criteria, Map<String, Object> state) {
+        Map<String, Boolean> signals = new LinkedHashMap<>();
+        signals.put("ready-state", "complete".equals(state.get("readyState")));
+        if (criteria.getRouteFragment() != null) {
+            signals.put("route-change", String.valueOf(state.get("url")).contains(criteria.getRouteFragment()));
+        }
+        if (criteria.isNetworkIdleRequired()) {
+            signals.put("network-idle", ((Number) state.get("inflight")).longValue() == 0);
+        }
+        if (!criteria.getQuietWindow().isZero()) {
+            signals.put("dom-quiet", ((Number) state.get("quietFor")).longValue() >= criteria.getQuietWindow().toMillis());
+        }
+        if (criteria.getReadySelector() != null) {
+            signals.put("element", Boolean.TRUE.equals(state.get("element")));
+        }
+        return signals;
+    }
+
+    private static String firstUnsatisfied(Map<String, Boolean> signals) {
+        for (Map.Entry<String, Boolean> signal : signals.entrySet()) {
+            if (!signal.getValue()) return signal.getKey();
+        }
+        return null;
+    }
+
+    /**
+     * Outcome of one readiness wait
+     */
+    public static class ReadinessResult {
+        private final long elapsedMillis;
+        private final String releasedBy;
+        private final String generation;
+
+        public ReadinessResult(long elapsedMillis, String releasedBy, String generation) {
+            this.elapsedMillis = elapsedMillis;
+            this.releasedBy = releasedBy;
+            this.generation = generation;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * @return Last signal to become satisfied, or "already-ready" if all held on the first poll
+         */
+        public String getReleasedBy() {
+            return releasedBy;
+        }
+
+        /**
+         * @return DOM generation token (document instance plus route change count) seen when released
+         */
+        public String getGeneration() {
+            return generation;
+        }
+    }
+}
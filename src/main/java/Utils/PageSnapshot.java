@@ -0,0 +1,206 @@
+package Utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+/**
+ * State of several elements read in a single executeScript round trip:
+ * presence, visibility, enabled state, trimmed text and requested attributes.
+ * Supports id, name, className, tagName, cssSelector, xpath and link text locators.
+ */
+public class PageSnapshot {
+    /**
+     * Resolves one locator spec produced by describe(); shared with other batched scripts
+     */
+    static final String FIND_FUNCTION =
+        "function(s) {" +
+        "  switch (s.using) {" +
+        "    case 'id': return document.getElementById(s.value);" +
+        "    case 'name': return document.getElementsByName(s.value)[0] || null;" +
+        "    case 'className': return document.getElementsByClassName(s.value)[0] || null;" +
+        "    case 'tagName': return document.getElementsByTagName(s.value)[0] || null;" +
+        "    case 'xpath': return document.evaluate(s.value, document, null," +
+        "      XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+        "    case 'linkText': case 'partialLinkText':" +
+        "      var links = document.getElementsByTagName('a');" +
+        "      for (var i = 0; i < links.length; i++) {" +
+        "        var t = (links[i].innerText || '').trim();" +
+        "        if (s.using === 'linkText' ? t === s.value : t.indexOf(s.value) >= 0) return links[i];" +
+        "      }" +
+        "      return null;" +
+        "    default: return document.querySelector(s.value);" +
+        "  }" +
+        "}";
+
+    private static final String PROBE_SCRIPT =
+        "var specs = arguments[0], attrs = arguments[1];" +
+        "var find = " + FIND_FUNCTION + ";" +
+        "return specs.map(function(s) {" +
+        "  var el = find(s);" +
+        "  if (!el) return { present: false };" +
+        "  var style = window.getComputedStyle(el), a = {};" +
+        "  attrs.forEach(function(n) { a[n] = n === 'value' && 'value' in el ? String(el.value) : el.getAttribute(n); });" +
+        "  return { present: true, element: el, enabled: !el.disabled, text: (el.innerText || '').trim(), attributes: a," +
+        "    displayed: style.display !== 'none' && style.visibility !== 'hidden' && el.getClientRects().length > 0 };" +
+        "});";
+
+    private final Map<By, ElementState> states;
+
+    private PageSnapshot(Map<By, ElementState> states) {
+        this.states = states;
+    }
+
+    /**
+     * Reads the state of every locator in one script call
+     * @param driver Active WebDriver
+     * @param locators Elements to probe
+     * @param attributes Attribute names to read from each present element
+     * @return Snapshot in locator order
+     */
+    @SuppressWarnings("unchecked")
+    static PageSnapshot capture(WebDriver driver, List<By> locators, List<String> attributes) {
+        List<Map<String, String>> specs = new ArrayList<>();
+        for (By locator : locators) {
+            specs.add(describe(locator));
+        }
+        List<Map<String, Object>> raw = (List<Map<String, Object>>)
+            ((JavascriptExecutor) driver).executeScript(PROBE_SCRIPT, specs, attributes);
+
+        Map<By, ElementState> states = new LinkedHashMap<>();
+        for (int i = 0; i < locators.size(); i++) {
+            states.put(locators.get(i), new ElementState(raw.get(i)));
+        }
+        return new PageSnapshot(states);
+    }
+
+    /**
+     * Splits a locator into the strategy and value FIND_FUNCTION understands
+     * @return Mutable spec; callers may add their own keys
+     * @throws IllegalArgumentException for locator types the script cannot resolve
+     */
+    static Map<String, String> describe(By locator) {
+        // By.toString() is "By.<strategy>: <value>" for the built-in locators
+        String text = locator.toString();
+        int separator = text.indexOf(": ");
+        if (!text.startsWith("By.") || separator < 0) {
+            throw new IllegalArgumentException("Unsupported locator for batched probe: " + text);
+        }
+        Map<String, String> spec = new HashMap<>();
+        spec.put("using", text.substring(3, separator));
+        spec.put("value", text.substring(separator + 2));
+        return spec;
+    }
+
+    /**
+     * @param locator One of the probed locators
+     * @return State of that element
+     */
+    public ElementState get(By locator) {
+        ElementState state = states.get(locator);
+        if (state == null) {
+            throw new IllegalArgumentException("Locator was not part of this snapshot: " + locator);
+        }
+        return state;
+    }
+
+    public Map<By, ElementState> getStates() {
+        return Collections.unmodifiableMap(states);
+    }
+
+    public boolean allPresent() {
+        for (ElementState state : states.values()) {
+            if (!state.isPresent()) return false;
+        }
+        return true;
+    }
+
+    public boolean allDisplayed() {
+        for (ElementState state : states.values()) {
+            if (!state.isDisplayed()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return Probed locators that are absent or hidden
+     */
+    public List<By> notDisplayed() {
+        List<By> hidden = new ArrayList<>();
+        for (Map.Entry<By, ElementState> entry : states.entrySet()) {
+            if (!entry.getValue().isDisplayed()) hidden.add(entry.getKey());
+        }
+        return hidden;
+    }
+
+    /**
+     * @return One-line summary for the report
+     */
+    public String summary() {
+        List<By> hidden = notDisplayed();
+        String result = (states.size() - hidden.size()) + "/" + states.size() + " elements displayed";
+        return hidden.isEmpty() ? result : result + ", not displayed: " + hidden;
+    }
+
+    /**
+     * State of one probed element
+     */
+    public static class ElementState {
+        private final boolean present;
+        private final boolean displayed;
+        private final boolean enabled;
+        private final String text;
+        private final Map<String, String> attributes;
+        private final WebElement element;
+
+        @SuppressWarnings("unchecked")
+        private ElementState(Map<String, Object> raw) {
+            this.present = Boolean.TRUE.equals(raw.get("present"));
+            this.displayed = Boolean.TRUE.equals(raw.get("displayed"));
+            this.enabled = Boolean.TRUE.equals(raw.get("enabled"));
+            this.text = raw.get("text") != null ? (String) raw.get("text") : "";
+            Map<String, String> attributes = (Map<String, String>) raw.get("attributes");
+            this.attributes = attributes != null ? attributes : Collections.<String, String>emptyMap();
+            this.element = (WebElement) raw.get("element");
+        }
+
+        public boolean isPresent() {
+            return present;
+        }
+
+        public boolean isDisplayed() {
+            return displayed;
+        }
+
+        public boolean isEnabled() {
+            return present && enabled;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * @param name Attribute requested when the snapshot was taken
+         * @return Attribute value or empty string
+         */
+        public String getAttribute(String name) {
+            String value = attributes.get(name);
+            return value != null ? value : "";
+        }
+
+        /**
+         * @return Handle to the element, or null if it was not present
+         */
+        WebElement getElement() {
+            return element;
+        }
+    }
+}
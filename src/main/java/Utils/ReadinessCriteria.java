@@ -0,0 +1,80 @@
+package Utils;
+
+import java.time.Duration;
+
+/**
+ * Declares when a page counts as ready for the SPA readiness engine.
+ * Defaults: document complete, no DOM mutations for 300 ms and no fetch/XHR in flight.
+ * Pages tighten or relax this per page, e.g. requiring a route or a key element.
+ */
+public class ReadinessCriteria {
+    private final String pageName;
+    private Duration quietWindow = Duration.ofMillis(300);
+    private boolean networkIdle = true;
+    private String routeFragment;
+    private String readySelector;
+
+    private ReadinessCriteria(String pageName) {
+        this.pageName = pageName;
+    }
+
+    /**
+     * Starts criteria with the default signals
+     * @param pageName Descriptive page name for reporting
+     */
+    public static ReadinessCriteria forPage(String pageName) {
+        return new ReadinessCriteria(pageName);
+    }
+
+    /**
+     * @param window How long the DOM must go without mutations (zero disables the signal)
+     */
+    public ReadinessCriteria quietWindow(Duration window) {
+        this.quietWindow = window;
+        return this;
+    }
+
+    /**
+     * @param required Whether in-flight fetch/XHR calls must have settled
+     */
+    public ReadinessCriteria networkIdle(boolean required) {
+        this.networkIdle = required;
+        return this;
+    }
+
+    /**
+     * @param fragment Text the current URL must contain after client-side routing
+     */
+    public ReadinessCriteria route(String fragment) {
+        this.routeFragment = fragment;
+        return this;
+    }
+
+    /**
+     * @param cssSelector Element that must be present before the page counts as ready
+     */
+    public ReadinessCriteria element(String cssSelector) {
+        this.readySelector = cssSelector;
+        return this;
+    }
+
+    public String getPageName() {
+        return pageName;
+    }
+
+    public Duration getQuietWindow() {
+        return quietWindow;
+    }
+
+    public boolean isNetworkIdleRequired() {
+        return networkIdle;
+    }
+
+    public String getRouteFragment() {
+        return routeFragment;
+    }
+
+    public String getReadySelector() {
+        return readySelector;
+    }
+}
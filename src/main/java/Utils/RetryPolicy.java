@@ -0,0 +1,137 @@
+package Utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.ElementNotInteractableException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.interactions.MoveTargetOutOfBoundsException;
+
+/**
+ * Central retry rules for ActionHelper, keyed by exception class.
+ * A rule gives the number of retries and the first pause; each further pause doubles and
+ * is spread by retry.jitter (0.2 = +/-20%) so parallel workers do not retry in lockstep.
+ * Rules are read from retry.&lt;ExceptionSimpleName&gt;.retries and .backoff.ms, falling back
+ * to the defaults below; an exception uses the rule of its closest configured class or
+ * superclass, anything else is not retried. Failures that mean the browser session is
+ * gone are never retried: they open the session's SessionCircuitBreaker.
+ */
+public class RetryPolicy {
+    private static final Map<Class<?>, Rule> DEFAULT_RULES = new LinkedHashMap<>();
+    static {
+        DEFAULT_RULES.put(StaleElementReferenceException.class, new Rule(2, 25));
+        DEFAULT_RULES.put(ElementClickInterceptedException.class, new Rule(2, 250));
+        DEFAULT_RULES.put(ElementNotInteractableException.class, new Rule(1, 250));
+        DEFAULT_RULES.put(MoveTargetOutOfBoundsException.class, new Rule(1, 100));
+    }
+    private static final Rule NO_RETRY = new Rule(0, 0);
+    private static final double JITTER = Double.parseDouble(ConfigReader.getProperty("retry.jitter", "0.2"));
+
+    private static final Map<Class<?>, Rule> resolvedRules = new ConcurrentHashMap<>();
+
+    // Private constructor to prevent instantiation
+    private RetryPolicy() {}
+
+    /**
+     * One try of an operation
+     */
+    @FunctionalInterface
+    public interface Attempt<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * Called before each retry, e.g. to evict a stale cached element
+     */
+    @FunctionalInterface
+    public interface RetryListener {
+        void beforeRetry(RuntimeException error, int retry, long pauseMillis);
+    }
+
+    /**
+     * Runs the operation, retrying failures according to their exception's rule
+     * @param driver Session the operation runs on, used for the circuit breaker
+     * @param attempt Operation to run
+     * @param listener Notified before every retry
+     * @return Result of the first successful attempt
+     * @throws SessionCircuitBreaker.SessionLostException if the session is already known to be gone
+     */
+    public static <T, E extends Exception> T execute(WebDriver driver, Attempt<T, E> attempt, RetryListener listener) throws E {
+        for (int retry = 0; ; retry++) {
+            SessionCircuitBreaker.check(driver);
+            try {
+                return attempt.run();
+            } catch (RuntimeException e) {
+                if (SessionCircuitBreaker.isSessionLost(e)) {
+                    SessionCircuitBreaker.trip(driver, e);
+                    throw e;
+                }
+                Rule rule = ruleFor(e.getClass());
+                if (retry >= rule.retries) throw e;
+                long pause = rule.pauseMillis(retry);
+                listener.beforeRetry(e, retry + 1, pause);
+                sleep(pause);
+            }
+        }
+    }
+
+    /**
+     * @return Rule of the closest class in the exception's hierarchy that has one
+     */
+    static Rule ruleFor(Class<?> errorClass) {
+        Rule rule = resolvedRules.get(errorClass);
+        if (rule != null) return rule;
+        rule = NO_RETRY;
+        for (Class<?> type = errorClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            Rule configured = configuredRule(type);
+            if (configured != null) {
+                rule = configured;
+                break;
+            }
+        }
+        resolvedRules.put(errorClass, rule);
+        return rule;
+    }
+
+    private static Rule configuredRule(Class<?> type) {
+        Rule fallback = DEFAULT_RULES.get(type);
+        String prefix = "retry." + type.getSimpleName();
+        String retries = ConfigReader.getProperty(prefix + ".retries", fallback == null ? null : String.valueOf(fallback.retries));
+        if (retries == null) return null;
+        String backoff = ConfigReader.getProperty(prefix + ".backoff.ms", fallback == null ? "100" : String.valueOf(fallback.backoffMillis));
+        return new Rule(Integer.parseInt(retries), Long.parseLong(backoff));
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) return;
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while backing off", e);
+        }
+    }
+
+    /**
+     * Retry count and first backoff for one exception class
+     */
+    static final class Rule {
+        private final int retries;
+        private final long backoffMillis;
+
+        private Rule(int retries, long backoffMillis) {
+            this.retries = retries;
+            this.backoffMillis = backoffMillis;
+        }
+
+        private long pauseMillis(int retry) {
+            double base = backoffMillis * Math.pow(2, retry);
+            double spread = 1 + JITTER * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+            return Math.round(base * spread);
+        }
+    }
+}
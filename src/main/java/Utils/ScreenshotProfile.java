@@ -0,0 +1,88 @@
+package Utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * How a screenshot is taken and stored: image format (png, jpeg, webp), quality for the lossy
+ * formats, the captured area (viewport or full page) and the width of the report thumbnail
+ * (0 for none). Profiles are read from screenshot.profile.&lt;name&gt;.* with built-in defaults:
+ * "step" is a cheap JPEG of the viewport with a thumbnail, "failure" and "baseline"
+ * (visual regression) are lossless PNGs.
+ * Formats and areas other than png/viewport need a Chromium browser (CDP); other drivers
+ * fall back to their regular PNG screenshot.
+ */
+public class ScreenshotProfile {
+    public enum Area { VIEWPORT, PAGE }
+
+    private static final Map<String, ScreenshotProfile> profiles = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final String format;
+    private final int quality;
+    private final Area area;
+    private final int thumbnailWidth;
+
+    private ScreenshotProfile(String name, String format, int quality, Area area, int thumbnailWidth) {
+        this.name = name;
+        this.format = format;
+        this.quality = quality;
+        this.area = area;
+        this.thumbnailWidth = thumbnailWidth;
+    }
+
+    /**
+     * @return Profile for step evidence (screenshot.profile.step.*)
+     */
+    public static ScreenshotProfile step() {
+        return named("step");
+    }
+
+    /**
+     * @return Profile for failure evidence (screenshot.profile.failure.*)
+     */
+    public static ScreenshotProfile failure() {
+        return named("failure");
+    }
+
+    public static ScreenshotProfile named(String name) {
+        return profiles.computeIfAbsent(name, ScreenshotProfile::load);
+    }
+
+    private static ScreenshotProfile load(String name) {
+        boolean lossless = "failure".equals(name) || "baseline".equals(name);
+        String prefix = "screenshot.profile." + name + ".";
+        String format = ConfigReader.getProperty(prefix + "format", lossless ? "png" : "jpeg").toLowerCase();
+        if (!format.equals("png") && !format.equals("jpeg") && !format.equals("webp")) {
+            throw new IllegalArgumentException("Unsupported screenshot format for profile " + name + ": " + format);
+        }
+        return new ScreenshotProfile(name, format,
+            Integer.parseInt(ConfigReader.getProperty(prefix + "quality", "70")),
+            Area.valueOf(ConfigReader.getProperty(prefix + "area", "viewport").toUpperCase()),
+            Integer.parseInt(ConfigReader.getProperty(prefix + "thumbnail.width", lossless ? "0" : "320")));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public int getQuality() {
+        return quality;
+    }
+
+    public Area getArea() {
+        return area;
+    }
+
+    public int getThumbnailWidth() {
+        return thumbnailWidth;
+    }
+
+    public boolean isLossless() {
+        return format.equals("png");
+    }
+}
@@ -0,0 +1,193 @@
+package Utils;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.imageio.ImageIO;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Content-addressed screenshot store. Every image is named by the SHA-256 of its bytes, so
+ * a frame captured twice (step screenshot, after-step evidence, final frame) is written once
+ * and every report entry links the same file. With screenshot.dedupe.perceptual=true (off by
+ * default) a frame that differs only in bytes from the session's previous frame links that
+ * frame instead: a matching ImageHash (screenshot.dedupe.distance) only selects the candidate,
+ * and every pixel must then be within screenshot.dedupe.tolerance per channel, so a typed
+ * character or a new message is never folded away. That check decodes each frame on the
+ * capturing thread, which is why it is opt-in.
+ * Thumbnails requested by the screenshot profile are generated by ScreenshotWriter.
+ */
+public class ScreenshotStore {
+    private static final boolean PERCEPTUAL =
+        Boolean.parseBoolean(ConfigReader.getProperty("screenshot.dedupe.perceptual", "false"));
+    private static final int MAX_DISTANCE =
+        Integer.parseInt(ConfigReader.getProperty("screenshot.dedupe.distance", "0"));
+    private static final int PIXEL_TOLERANCE =
+        Integer.parseInt(ConfigReader.getProperty("screenshot.dedupe.tolerance", "8"));
+
+    // File names of every image written in this run
+    private static final Map<String, Boolean> stored = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, Frame> lastFrames = new ConcurrentHashMap<>();
+    // Image file name -> thumbnail file name
+    private static final Map<String, String> thumbnails = new ConcurrentHashMap<>();
+    private static final LongAdder captures = new LongAdder();
+    private static final LongAdder exactDuplicates = new LongAdder();
+    private static final LongAdder nearDuplicates = new LongAdder();
+    private static final LongAdder bytesSaved = new LongAdder();
+
+    // Private constructor to prevent instantiation
+    private ScreenshotStore() {}
+
+    /**
+     * Stores a captured frame unless the same or a near-identical frame is already stored
+     * @param driver Session the frame was captured from
+     * @param image PNG, JPEG or WebP bytes
+     * @param thumbnailWidth Width of the report thumbnail, 0 for none
+     * @return File name to link in the report
+     */
+    public static String store(WebDriver driver, byte[] image, int thumbnailWidth) {
+        captures.increment();
+        String fileName = contentName(image);
+        Frame last = lastFrames.get(driver);
+
+        if (stored.containsKey(fileName)) {
+            exactDuplicates.increment();
+            bytesSaved.add(image.length);
+            lastFrames.put(driver, new Frame(fileName, null, null));
+            requestThumbnail(fileName, image, thumbnailWidth);
+            return fileName;
+        }
+
+        BufferedImage pixels = PERCEPTUAL ? decode(image) : null;
+        long[] hash = pixels != null ? ImageHash.of(pixels) : null;
+        // Same format only, so a lossless failure capture never links a lossy step frame
+        if (last != null && hash != null && last.hash != null && sameFormat(fileName, last.fileName)
+                && ImageHash.distance(hash, last.hash) <= MAX_DISTANCE && samePixels(pixels, last.pixels)) {
+            nearDuplicates.increment();
+            bytesSaved.add(image.length);
+            return last.fileName;
+        }
+
+        if (stored.putIfAbsent(fileName, Boolean.TRUE) == null) {
+            ScreenshotWriter.submit(fileName, image);
+            requestThumbnail(fileName, image, thumbnailWidth);
+        } else {
+            exactDuplicates.increment();
+            bytesSaved.add(image.length);
+        }
+        lastFrames.put(driver, new Frame(fileName, hash, pixels));
+        return fileName;
+    }
+
+    /**
+     * @return Thumbnail file name of an image, null if it has none
+     */
+    public static String getThumbnail(String fileName) {
+        return thumbnails.get(fileName);
+    }
+
+    /**
+     * Forgets the previous frame of a session that is being quit
+     */
+    public static void detach(WebDriver driver) {
+        if (driver != null) lastFrames.remove(driver);
+    }
+
+    /**
+     * @return One-line summary for logs and report system info
+     */
+    public static String summary() {
+        return String.format("%d captured, %d stored, %d exact and %d near duplicates skipped (%d KB saved)",
+            captures.sum(), stored.size(), exactDuplicates.sum(), nearDuplicates.sum(), bytesSaved.sum() / 1024);
+    }
+
+    private static String contentName(byte[] image) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(image);
+            StringBuilder name = new StringBuilder();
+            // 128 bits are plenty to tell the frames of one run apart
+            for (int i = 0; i < 16; i++) {
+                name.append(String.format("%02x", digest[i]));
+            }
+            return name.append(extension(image)).toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String extension(byte[] image) {
+        if (image.length > 2 && (image[0] & 0xFF) == 0xFF && (image[1] & 0xFF) == 0xD8) return ".jpg";
+        if (image.length > 12 && image[8] == 'W' && image[9] == 'E' && image[10] == 'B' && image[11] == 'P') {
+            return ".webp";
+        }
+        return ".png";
+    }
+
+    private static boolean sameFormat(String fileName, String other) {
+        return fileName.substring(fileName.lastIndexOf('.')).equals(other.substring(other.lastIndexOf('.')));
+    }
+
+    /**
+     * Queues a thumbnail once per image; WebP cannot be decoded by ImageIO and gets none
+     */
+    private static void requestThumbnail(String fileName, byte[] image, int width) {
+        if (width <= 0 || fileName.endsWith(".webp")) return;
+        String thumbnail = fileName.substring(0, fileName.lastIndexOf('.')) + "_thumb.jpg";
+        if (thumbnails.putIfAbsent(fileName, thumbnail) == null) {
+            ScreenshotWriter.submitThumbnail(thumbnail, image, width);
+        }
+    }
+
+    private static BufferedImage decode(byte[] image) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(image));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Confirms a hash match: same size and no pixel channel further apart than the tolerance
+     */
+    private static boolean samePixels(BufferedImage image, BufferedImage other) {
+        if (other == null || image.getWidth() != other.getWidth() || image.getHeight() != other.getHeight()) {
+            return false;
+        }
+        int width = image.getWidth();
+        int[] row = new int[width];
+        int[] otherRow = new int[width];
+        for (int y = 0; y < image.getHeight(); y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            other.getRGB(0, y, width, 1, otherRow, 0, width);
+            for (int x = 0; x < width; x++) {
+                int a = row[x];
+                int b = otherRow[x];
+                if (a == b) continue;
+                if (Math.abs(((a >> 16) & 0xFF) - ((b >> 16) & 0xFF)) > PIXEL_TOLERANCE
+                        || Math.abs(((a >> 8) & 0xFF) - ((b >> 8) & 0xFF)) > PIXEL_TOLERANCE
+                        || Math.abs((a & 0xFF) - (b & 0xFF)) > PIXEL_TOLERANCE) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static class Frame {
+        private final String fileName;
+        private final long[] hash;
+        // Decoded frame, kept only while perceptual deduplication is on
+        private final BufferedImage pixels;
+
+        private Frame(String fileName, long[] hash, BufferedImage pixels) {
+            this.fileName = fileName;
+            this.hash = hash;
+            this.pixels = pixels;
+        }
+    }
+}
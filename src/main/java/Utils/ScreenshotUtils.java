@@ -1,37 +1,101 @@
 package Utils;
 
-import java.io.File;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
 
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Rectangle;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.chromium.HasCdp;
 
 public class ScreenshotUtils {
+    /**
+     * Step evidence: written, buffered in memory or skipped according to evidence.policy
+     * @return File name in the report's screenshot directory, null if nothing was written
+     */
     public static String capture(WebDriver driver, String baseName) {
+        return StepEvidence.capture(driver, baseName);
+    }
+
+    /**
+     * Captures the browser with the given profile
+     * @param baseName Capture name used in warnings
+     * @return File name in the report's screenshot directory, null if the capture failed
+     */
+    public static String capture(WebDriver driver, String baseName, ScreenshotProfile profile) {
+        return capture(driver, baseName, profile, null);
+    }
+
+    /**
+     * Captures only the area of one element
+     * @return File name in the report's screenshot directory, null if the capture failed
+     */
+    public static String captureElement(WebDriver driver, String baseName, WebElement element,
+                                        ScreenshotProfile profile) {
+        return capture(driver, baseName, profile, element);
+    }
+
+    private static String capture(WebDriver driver, String baseName, ScreenshotProfile profile, WebElement element) {
+        // A lost session would only time out; the failure itself is already reported
+        if (SessionCircuitBreaker.isOpen(driver)) return null;
         try {
-            // 1. Create screenshots directory inside report folder
-            File screenshotDir = new File(ExtentReportManager.REPORT_BASE_PATH, "screenshots");
-            if (!screenshotDir.exists()) screenshotDir.mkdirs();
-
-            // 2. Generate filename WITHOUT directory
-            String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmssSSS").format(new Date());
-            String safeName = baseName.replaceAll("[^a-zA-Z0-9-]", "_");
-            String fileName = safeName + "_" + timestamp + ".png";
-            
-            // 3. Save screenshot directly to screenshots directory
-            File srcFile = ((TakesScreenshot) driver).getScreenshotAs(OutputType.FILE);
-            File destFile = new File(screenshotDir, fileName);
-            FileUtils.copyFile(srcFile, destFile);
-            
-            // 4. Return ONLY filename (no path)
-            return fileName;
+            // 1. Capture in memory
+            byte[] image = grab(driver, profile, element);
+
+            // 2. Return ONLY filename (no path): named by content, shared by identical frames
+            return ScreenshotStore.store(driver, image, profile.getThumbnailWidth());
             
         } catch (Exception e) {
             ExtentReportManager.logWarning("Screenshot failed: " + e.getMessage(), baseName);
             return null;
         }
     }
+
+    /**
+     * Takes the screenshot without storing it
+     * @param element Element to clip to, null for the whole viewport or page
+     * @return Encoded image
+     */
+    static byte[] grab(WebDriver driver, ScreenshotProfile profile, WebElement element) {
+        return driver instanceof HasCdp
+            ? captureWithCdp((HasCdp) driver, profile, element)
+            : element != null ? element.getScreenshotAs(OutputType.BYTES)
+            : ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+    }
+
+    /**
+     * Page.captureScreenshot encodes in the browser, so JPEG/WebP never pass through a PNG
+     */
+    private static byte[] captureWithCdp(HasCdp driver, ScreenshotProfile profile, WebElement element) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("format", profile.getFormat());
+        if (!profile.isLossless()) params.put("quality", profile.getQuality());
+        if (element != null) {
+            Rectangle rect = element.getRect();
+            params.put("clip", clip(rect.getX(), rect.getY(), rect.getWidth(), rect.getHeight()));
+            params.put("captureBeyondViewport", true);
+        } else if (profile.getArea() == ScreenshotProfile.Area.PAGE) {
+            Map<String, Object> metrics = driver.executeCdpCommand("Page.getLayoutMetrics", new HashMap<>());
+            @SuppressWarnings("unchecked")
+            Map<String, Object> content = (Map<String, Object>) metrics.get("cssContentSize");
+            params.put("clip", clip(0, 0, ((Number) content.get("width")).intValue(),
+                ((Number) content.get("height")).intValue()));
+            params.put("captureBeyondViewport", true);
+        }
+        Map<String, Object> result = driver.executeCdpCommand("Page.captureScreenshot", params);
+        return Base64.getDecoder().decode((String) result.get("data"));
+    }
+
+    private static Map<String, Object> clip(int x, int y, int width, int height) {
+        Map<String, Object> clip = new HashMap<>();
+        clip.put("x", x);
+        clip.put("y", y);
+        clip.put("width", width);
+        clip.put("height", height);
+        clip.put("scale", 1);
+        return clip;
+    }
 }
\ No newline at end of file
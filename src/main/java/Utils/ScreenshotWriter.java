@@ -0,0 +1,157 @@
+package Utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.imageio.ImageIO;
+
+/**
+ * Bounded background writer for screenshots. ScreenshotUtils hands over the PNG bytes and
+ * links the final file name in the report at once; the file is written by a small pool
+ * through a FileChannel. When the queue (screenshot.writer.queue) is full the capturing
+ * thread writes the image itself, which slows producers down instead of growing memory.
+ * Report thumbnails are scaled and encoded on the same pool, off the test thread.
+ * Workers are non-daemon and the suite drains the queue, so no evidence is lost on exit.
+ */
+public class ScreenshotWriter {
+    private static final int THREADS =
+        Integer.parseInt(ConfigReader.getProperty("screenshot.writer.threads", "2"));
+    private static final int QUEUE_SIZE =
+        Integer.parseInt(ConfigReader.getProperty("screenshot.writer.queue", "64"));
+    private static final Path DIRECTORY =
+        Paths.get(ExtentReportManager.REPORT_BASE_PATH, ExtentReportManager.SCREENSHOT_DIR);
+
+    private static final LongAdder written = new LongAdder();
+    private static final LongAdder failed = new LongAdder();
+    private static final LongAdder callerWrites = new LongAdder();
+    private static final LongAdder bytesWritten = new LongAdder();
+    private static volatile ThreadPoolExecutor pool;
+    private static volatile boolean directoryReady;
+
+    // Private constructor to prevent instantiation
+    private ScreenshotWriter() {}
+
+    /**
+     * Queues an image for writing into the report's screenshot directory
+     * @param fileName File name without directory
+     * @param image Encoded image
+     */
+    public static void submit(String fileName, byte[] image) {
+        pool().execute(() -> write(fileName, image));
+    }
+
+    /**
+     * Queues scaling an image down to a JPEG thumbnail
+     * @param fileName Thumbnail file name without directory
+     * @param image Encoded PNG or JPEG
+     * @param width Thumbnail width; images narrower than this are only re-encoded
+     */
+    public static void submitThumbnail(String fileName, byte[] image, int width) {
+        pool().execute(() -> {
+            try {
+                BufferedImage source = ImageIO.read(new ByteArrayInputStream(image));
+                if (source == null) throw new IOException("unsupported image format");
+                int targetWidth = Math.min(width, source.getWidth());
+                int targetHeight = Math.max(1, source.getHeight() * targetWidth / source.getWidth());
+                BufferedImage thumbnail = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+                Graphics2D graphics = thumbnail.createGraphics();
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+                graphics.dispose();
+                ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+                ImageIO.write(thumbnail, "jpg", encoded);
+                write(fileName, encoded.toByteArray());
+            } catch (IOException e) {
+                failed.increment();
+                System.err.println("WARNING: Failed to create thumbnail " + fileName + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Waits until every queued image is on disk; later submissions start a new pool
+     * @param timeoutSeconds Maximum time to wait
+     * @return true if the queue was fully drained
+     */
+    public static synchronized boolean drain(long timeoutSeconds) {
+        ThreadPoolExecutor executor = pool;
+        if (executor == null) return true;
+        pool = null;
+        executor.shutdown();
+        try {
+            return executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @return One-line summary of written screenshots and backpressure
+     */
+    public static String summary() {
+        return String.format("%d written (%d KB), %d failed, %d written by the capturing thread (queue full)",
+            written.sum(), bytesWritten.sum() / 1024, failed.sum(), callerWrites.sum());
+    }
+
+    private static ThreadPoolExecutor pool() {
+        ThreadPoolExecutor executor = pool;
+        if (executor != null) return executor;
+        synchronized (ScreenshotWriter.class) {
+            if (pool == null) {
+                AtomicInteger threadIndex = new AtomicInteger();
+                RejectedExecutionHandler writeOnCaller = (task, rejected) -> {
+                    callerWrites.increment();
+                    task.run();
+                };
+                ThreadPoolExecutor created = new ThreadPoolExecutor(THREADS, THREADS, 5, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_SIZE),
+                    runnable -> new Thread(runnable, "screenshot-writer-" + threadIndex.incrementAndGet()),
+                    writeOnCaller);
+                // Idle workers exit, so a JVM that skips drain() still ends once the queue is empty
+                created.allowCoreThreadTimeOut(true);
+                pool = created;
+            }
+            return pool;
+        }
+    }
+
+    private static void write(String fileName, byte[] image) {
+        try {
+            ensureDirectory();
+            try (FileChannel channel = FileChannel.open(DIRECTORY.resolve(fileName),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(image);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            written.increment();
+            bytesWritten.add(image.length);
+        } catch (IOException e) {
+            failed.increment();
+            System.err.println("WARNING: Failed to write screenshot " + fileName + ": " + e.getMessage());
+        }
+    }
+
+    private static void ensureDirectory() throws IOException {
+        if (directoryReady) return;
+        Files.createDirectories(DIRECTORY);
+        directoryReady = true;
+    }
+}
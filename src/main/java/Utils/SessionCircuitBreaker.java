@@ -0,0 +1,103 @@
+package Utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+/**
+ * Per-session circuit breaker. Once a command fails because the browser session is gone
+ * (NoSuchSessionException, unreachable browser, lost DevTools connection) the breaker of
+ * that driver opens, and every later ActionHelper call, screenshot or readiness check
+ * fails at once with SessionLostException instead of waiting out its timeout against a
+ * dead browser. DriverPool retires sessions with an open breaker rather than resetting them.
+ */
+public class SessionCircuitBreaker {
+    private static final String[] SESSION_LOST_MESSAGES = {
+        "chrome not reachable",
+        "disconnected: not connected to DevTools",
+        "browser has closed the connection",
+        "Session ID is null",
+        "Failed to decode response from marionette",
+        "Tried to run command without establishing a connection"
+    };
+
+    private static final Map<WebDriver, Throwable> openBreakers = new ConcurrentHashMap<>();
+    private static final AtomicLong trips = new AtomicLong();
+    private static final AtomicLong shortCircuits = new AtomicLong();
+
+    // Private constructor to prevent instantiation
+    private SessionCircuitBreaker() {}
+
+    /**
+     * @param error Failure of a WebDriver command, possibly wrapped
+     * @return true if the failure means the browser session cannot be used anymore
+     */
+    public static boolean isSessionLost(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NoSuchSessionException
+                    || cause instanceof UnreachableBrowserException
+                    || cause instanceof SessionLostException) {
+                return true;
+            }
+            String message = cause.getMessage();
+            if (cause instanceof WebDriverException && message != null) {
+                for (String marker : SESSION_LOST_MESSAGES) {
+                    if (message.contains(marker)) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Opens the breaker of a session; later calls to check() fail immediately
+     * @param driver Session whose command failed
+     * @param cause Failure that showed the session is gone
+     */
+    public static void trip(WebDriver driver, Throwable cause) {
+        if (driver == null) return;
+        if (openBreakers.putIfAbsent(driver, cause) == null) {
+            trips.incrementAndGet();
+            System.err.println("WARNING: Browser session lost, failing remaining actions fast: " + cause.getMessage());
+        }
+    }
+
+    /**
+     * @throws SessionLostException if the session's breaker is open
+     */
+    public static void check(WebDriver driver) {
+        Throwable cause = driver == null ? null : openBreakers.get(driver);
+        if (cause != null) {
+            shortCircuits.incrementAndGet();
+            throw new SessionLostException("Browser session is gone: " + cause.getMessage(), cause);
+        }
+    }
+
+    public static boolean isOpen(WebDriver driver) {
+        return driver != null && openBreakers.containsKey(driver);
+    }
+
+    /**
+     * Forgets a session that is being quit
+     */
+    public static void detach(WebDriver driver) {
+        if (driver != null) openBreakers.remove(driver);
+    }
+
+    /**
+     * @return One-line summary for logs and report system info
+     */
+    public static String summary() {
+        return String.format("%d sessions lost, %d actions failed fast", trips.get(), shortCircuits.get());
+    }
+
+    public static class SessionLostException extends WebDriverException {
+        public SessionLostException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package Utils;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Caches authenticated browser state (cookies, localStorage, sessionStorage) per user.
+ * The first sign-in for a user goes through the UI; later sessions get the captured
+ * state injected and land directly on the post-login page. Entries expire after
+ * auth.session.ttl.minutes or as soon as the application answers 401/403 or
+ * redirects back to the login page. Scenarios can opt out to force a UI login.
+ */
+public class SessionStateCache {
+    private static final Map<String, SessionSnapshot> snapshots = new ConcurrentHashMap<>();
+    private static final Map<String, Object> userLocks = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> optedOut = ThreadLocal.withInitial(() -> false);
+
+    private static final String READ_STORAGE_SCRIPT =
+        "var read = function(s) { var o = {}; for (var i = 0; i < s.length; i++) { var k = s.key(i); o[k] = s.getItem(k); } return o; };" +
+        "return { local: read(window.localStorage), session: read(window.sessionStorage) };";
+    private static final String WRITE_STORAGE_SCRIPT =
+        "var local = arguments[0], session = arguments[1];" +
+        "for (var k in local) window.localStorage.setItem(k, local[k]);" +
+        "for (var k in session) window.sessionStorage.setItem(k, session[k]);";
+    private static final String NAVIGATION_STATUS_SCRIPT =
+        "var e = performance.getEntriesByType('navigation')[0];" +
+        "return e && e.responseStatus ? e.responseStatus : 0;";
+
+    // Private constructor to prevent instantiation
+    private SessionStateCache() {}
+
+    /**
+     * UI login flow run when no valid cached state exists for the user
+     */
+    public interface LoginAction {
+        void login() throws IOException;
+    }
+
+    /**
+     * Signs the user in, from cached state when possible
+     * @param driver Active WebDriver on the application origin
+     * @param user Logical user name used as cache key
+     * @param uiLogin UI login flow that ends on the post-login page
+     * @throws IOException if the UI login fails
+     */
+    public static void signIn(WebDriver driver, String user, LoginAction uiLogin) throws IOException {
+        if (!isEnabled()) {
+            uiLogin.login();
+            return;
+        }
+        if (tryRestore(driver, user)) return;
+
+        // Only one thread logs in per user; the others wait and reuse its snapshot
+        synchronized (userLocks.computeIfAbsent(user, k -> new Object())) {
+            if (tryRestore(driver, user)) return;
+            uiLogin.login();
+            snapshots.put(user, capture(driver));
+            ExtentReportManager.logInfo("Signed in through UI and cached session for " + user);
+        }
+    }
+
+    /**
+     * @return true if signIn() can restore the user without a UI login
+     */
+    public static boolean isRestorable(String user) {
+        SessionSnapshot snapshot = snapshots.get(user);
+        return isEnabled() && snapshot != null && !snapshot.isExpired();
+    }
+
+    /**
+     * Drops the cached state for a user
+     */
+    public static void evict(String user) {
+        snapshots.remove(user);
+    }
+
+    /**
+     * Disables the cache for the current scenario (e.g. login-specific scenarios)
+     */
+    public static void setOptedOut(boolean value) {
+        optedOut.set(value);
+    }
+
+    private static boolean isEnabled() {
+        return !optedOut.get()
+            && Boolean.parseBoolean(ConfigReader.getProperty("auth.session.cache", "true"));
+    }
+
+    // Capture and Restore /////////////////////////////////////////////////////
+
+    private static boolean tryRestore(WebDriver driver, String user) {
+        SessionSnapshot snapshot = snapshots.get(user);
+        if (snapshot == null) return false;
+        if (snapshot.isExpired()) {
+            snapshots.remove(user, snapshot);
+            return false;
+        }
+        if (inject(driver, snapshot)) {
+            ExtentReportManager.logInfo("Restored cached session for " + user);
+            return true;
+        }
+        snapshots.remove(user, snapshot);
+        clearState(driver, snapshot.originUrl);
+        ExtentReportManager.logWarning("Cached session for " + user + " was rejected, signing in again", null);
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SessionSnapshot capture(WebDriver driver) {
+        Map<String, Map<String, String>> storage = (Map<String, Map<String, String>>)
+            ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+        return new SessionSnapshot(
+            driver.manage().getCookies(),
+            storage.get("local"),
+            storage.get("session"),
+            ConfigReader.getProperty("url"),
+            driver.getCurrentUrl()
+        );
+    }
+
+    /**
+     * Injects the snapshot and opens the post-login page
+     * @return true if the application accepted the restored session
+     */
+    private static boolean inject(WebDriver driver, SessionSnapshot snapshot) {
+        if (!driver.getCurrentUrl().startsWith(snapshot.originUrl)) {
+            driver.get(snapshot.originUrl);
+        }
+        for (Cookie cookie : snapshot.cookies) {
+            try {
+                driver.manage().addCookie(cookie);
+            } catch (Exception e) {
+                // Cookies for other domains cannot be set from this origin
+            }
+        }
+        ((JavascriptExecutor) driver).executeScript(
+            WRITE_STORAGE_SCRIPT, snapshot.localStorage, snapshot.sessionStorage
+        );
+        driver.get(snapshot.landingUrl);
+        return isAuthenticated(driver);
+    }
+
+    private static boolean isAuthenticated(WebDriver driver) {
+        Object status = ((JavascriptExecutor) driver).executeScript(NAVIGATION_STATUS_SCRIPT);
+        long code = status instanceof Number ? ((Number) status).longValue() : 0;
+        if (code == 401 || code == 403) return false;
+
+        String currentUrl = driver.getCurrentUrl().toLowerCase();
+        for (String loginPath : ConfigReader.getProperty("auth.login.paths", "login,sign-in").split(",")) {
+            if (currentUrl.contains(loginPath.trim())) return false;
+        }
+        return true;
+    }
+
+    private static void clearState(WebDriver driver, String originUrl) {
+        driver.manage().deleteAllCookies();
+        ((JavascriptExecutor) driver).executeScript(
+            "window.localStorage.clear(); window.sessionStorage.clear();"
+        );
+        driver.get(originUrl);
+    }
+
+    /**
+     * Authenticated state captured right after a UI login
+     */
+    private static class SessionSnapshot {
+        private final Set<Cookie> cookies;
+        private final Map<String, String> localStorage;
+        private final Map<String, String> sessionStorage;
+        private final String originUrl;
+        private final String landingUrl;
+        private final long capturedAt = System.nanoTime();
+
+        private SessionSnapshot(Set<Cookie> cookies, Map<String, String> localStorage,
+                                Map<String, String> sessionStorage, String originUrl, String landingUrl) {
+            this.cookies = cookies;
+            this.localStorage = localStorage != null ? localStorage : Collections.<String, String>emptyMap();
+            this.sessionStorage = sessionStorage != null ? sessionStorage : Collections.<String, String>emptyMap();
+            this.originUrl = originUrl;
+            this.landingUrl = landingUrl;
+        }
+
+        private boolean isExpired() {
+            long ttlMinutes = Long.parseLong(ConfigReader.getProperty("auth.session.ttl.minutes", "30"));
+            return System.nanoTime() - capturedAt > TimeUnit.MINUTES.toNanos(ttlMinutes);
+        }
+    }
+}
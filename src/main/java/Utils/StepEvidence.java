@@ -0,0 +1,153 @@
+package Utils;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Evidence policy for step screenshots (evidence.policy):
+ * always - every step frame is written and linked, as before;
+ * on-failure - the last evidence.buffer.frames frames of the session are kept in a ring of
+ * off-heap buffers and written only when the scenario fails or an interaction fails, so a
+ * passing scenario does no screenshot disk I/O;
+ * sampled - every evidence.sample.rate-th frame is written, the others go to the ring.
+ * Failure screenshots (ScreenshotProfile.failure()) are not affected by the policy.
+ */
+public class StepEvidence {
+    private enum Policy { ALWAYS, ON_FAILURE, SAMPLED }
+
+    private static final Policy POLICY = Policy.valueOf(
+        ConfigReader.getProperty("evidence.policy", "always").trim().toUpperCase().replace('-', '_'));
+    private static final int FRAMES =
+        Math.max(1, Integer.parseInt(ConfigReader.getProperty("evidence.buffer.frames", "5")));
+    private static final int SAMPLE_RATE =
+        Math.max(1, Integer.parseInt(ConfigReader.getProperty("evidence.sample.rate", "5")));
+
+    private static final Map<WebDriver, Ring> rings = new ConcurrentHashMap<>();
+    private static final LongAdder buffered = new LongAdder();
+    private static final LongAdder flushed = new LongAdder();
+    private static final LongAdder discarded = new LongAdder();
+
+    // Private constructor to prevent instantiation
+    private StepEvidence() {}
+
+    /**
+     * Captures a step frame according to the policy
+     * @param baseName Capture name, shown in the report when a buffered frame is flushed
+     * @return File name to link in the report, null if the frame was buffered or the capture failed
+     */
+    static String capture(WebDriver driver, String baseName) {
+        ScreenshotProfile profile = ScreenshotProfile.step();
+        if (POLICY == Policy.ALWAYS || driver == null) {
+            return ScreenshotUtils.capture(driver, baseName, profile);
+        }
+        Ring ring = rings.computeIfAbsent(driver, d -> new Ring());
+        if (POLICY == Policy.SAMPLED && ring.steps++ % SAMPLE_RATE == 0) {
+            return ScreenshotUtils.capture(driver, baseName, profile);
+        }
+        if (SessionCircuitBreaker.isOpen(driver)) return null;
+        try {
+            ring.add(baseName, ScreenshotUtils.grab(driver, profile, null));
+            buffered.increment();
+        } catch (Exception e) {
+            ExtentReportManager.logWarning("Screenshot failed: " + e.getMessage(), baseName);
+        }
+        return null;
+    }
+
+    /**
+     * Writes the buffered frames of a session, oldest first, and links them in the report
+     * @param reason Why the evidence is needed, e.g. "Scenario failed"
+     */
+    public static void flush(WebDriver driver, String reason) {
+        Ring ring = driver == null ? null : rings.get(driver);
+        if (ring == null) return;
+        int thumbnailWidth = ScreenshotProfile.step().getThumbnailWidth();
+        for (Frame frame : ring.drain()) {
+            String fileName = ScreenshotStore.store(driver, frame.image, thumbnailWidth);
+            ExtentReportManager.logInfo(reason + " - buffered evidence: " + frame.name, fileName);
+            flushed.increment();
+        }
+    }
+
+    /**
+     * Drops the buffered frames at the end of a passing scenario
+     */
+    public static void discard(WebDriver driver) {
+        Ring ring = driver == null ? null : rings.get(driver);
+        if (ring != null) discarded.add(ring.clear());
+    }
+
+    /**
+     * Releases the buffers of a session that is being quit
+     */
+    public static void detach(WebDriver driver) {
+        if (driver != null) rings.remove(driver);
+    }
+
+    /**
+     * @return One-line summary for logs and report system info
+     */
+    public static String summary() {
+        return String.format("policy %s, %d frames buffered, %d flushed, %d discarded",
+            POLICY.name().toLowerCase().replace('_', '-'), buffered.sum(), flushed.sum(), discarded.sum());
+    }
+
+    /**
+     * Last FRAMES frames of one session. Slots keep their direct buffers between scenarios,
+     * so steady-state buffering neither allocates nor adds to the heap.
+     */
+    private static class Ring {
+        private final ByteBuffer[] slots = new ByteBuffer[FRAMES];
+        private final String[] names = new String[FRAMES];
+        private int next;
+        private int size;
+        private int steps;
+
+        private synchronized void add(String name, byte[] image) {
+            ByteBuffer slot = slots[next];
+            if (slot == null || slot.capacity() < image.length) {
+                // Headroom so slightly larger frames of the same page reuse the buffer
+                slot = ByteBuffer.allocateDirect(image.length + image.length / 4);
+                slots[next] = slot;
+            }
+            slot.clear();
+            slot.put(image);
+            slot.flip();
+            names[next] = name;
+            next = (next + 1) % FRAMES;
+            size = Math.min(size + 1, FRAMES);
+        }
+
+        private synchronized Frame[] drain() {
+            Frame[] frames = new Frame[size];
+            for (int i = 0; i < size; i++) {
+                int index = (next - size + i + FRAMES) % FRAMES;
+                byte[] image = new byte[slots[index].remaining()];
+                slots[index].duplicate().get(image);
+                frames[i] = new Frame(names[index], image);
+            }
+            size = 0;
+            return frames;
+        }
+
+        private synchronized int clear() {
+            int dropped = size;
+            size = 0;
+            steps = 0;
+            return dropped;
+        }
+    }
+
+    private static class Frame {
+        private final String name;
+        private final byte[] image;
+
+        private Frame(String name, byte[] image) {
+            this.name = name;
+            this.image = image;
+        }
+    }
+}
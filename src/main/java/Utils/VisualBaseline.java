@@ -0,0 +1,336 @@
+package Utils;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import javax.imageio.ImageIO;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Visual regression check against stored baselines (visual.baseline.dir/&lt;name&gt;.png).
+ * A comparison goes from cheap to expensive: identical bytes pass at once; a perceptual hash
+ * farther than visual.hash.distance from the baseline's fails without a pixel diff; otherwise
+ * a fork-join diff over tiles counts pixels whose channels differ by more than
+ * visual.pixel.tolerance and fails above visual.max.diff.ratio. Masked regions are skipped:
+ * visual.mask.selectors (CSS, all baselines) and &lt;name&gt;.mask lines ("x,y,width,height" or
+ * "css=selector"). A diff image is written only on mismatch. A missing baseline fails the
+ * check; baselines are recorded from the current page only with visual.baseline.update=true.
+ */
+public class VisualBaseline {
+    private static final int TILE = 64;
+    private static final int HIGHLIGHT = 0xFF0000;
+
+    private static final String MASK_SCRIPT =
+        "var ratio = window.devicePixelRatio || 1, rects = [];" +
+        "arguments[0].forEach(function(selector) {" +
+        "  document.querySelectorAll(selector).forEach(function(el) {" +
+        "    var r = el.getBoundingClientRect();" +
+        "    if (r.width > 0 && r.height > 0) rects.push([Math.floor(r.left * ratio), Math.floor(r.top * ratio)," +
+        "      Math.ceil(r.width * ratio), Math.ceil(r.height * ratio)]);" +
+        "  });" +
+        "});" +
+        "return rects;";
+
+    // Private constructor to prevent instantiation
+    private VisualBaseline() {}
+
+    /**
+     * Compares the current viewport with a baseline and reports the outcome
+     * @param driver Session showing the page
+     * @param name Baseline name
+     * @return Outcome; isMatch() is false on mismatch
+     * @throws IOException if the baseline cannot be read or recorded
+     */
+    public static Result compare(WebDriver driver, String name) throws IOException {
+        byte[] actual = ScreenshotUtils.grab(driver, ScreenshotProfile.named("baseline"), null);
+        Path baselineFile = baselineDir().resolve(name.replaceAll("[^a-zA-Z0-9-]", "_") + ".png");
+
+        if (isUpdating()) {
+            record(baselineFile, actual);
+            ExtentReportManager.logWarning("Baseline " + name + " recorded at " + baselineFile, null);
+            return new Result(name, true, 0, 0, "recorded");
+        }
+        if (!Files.exists(baselineFile)) {
+            return report(driver, new Result(name, false, 0, 0, "no baseline at " + baselineFile
+                + "; record it with visual.baseline.update=true"), actual, null, null);
+        }
+        byte[] expected = Files.readAllBytes(baselineFile);
+        if (Arrays.equals(actual, expected)) {
+            return report(driver, new Result(name, true, 0, 0, "identical"), null, null, null);
+        }
+
+        BufferedImage actualImage = ImageIO.read(new ByteArrayInputStream(actual));
+        BufferedImage expectedImage = ImageIO.read(new ByteArrayInputStream(expected));
+        if (actualImage == null || expectedImage == null) {
+            throw new IOException("Cannot decode screenshot or baseline " + baselineFile);
+        }
+        long total = (long) actualImage.getWidth() * actualImage.getHeight();
+        if (actualImage.getWidth() != expectedImage.getWidth() || actualImage.getHeight() != expectedImage.getHeight()) {
+            return report(driver, new Result(name, false, total, total, String.format("size %dx%d, baseline %dx%d",
+                actualImage.getWidth(), actualImage.getHeight(), expectedImage.getWidth(), expectedImage.getHeight())),
+                actual, expected, "Expected baseline " + name);
+        }
+
+        List<Rectangle> masks = masks(driver, name);
+        int hashDistance = ImageHash.distance(ImageHash.of(actualImage), ImageHash.of(expectedImage));
+        if (masks.isEmpty() && hashDistance > maxHashDistance()) {
+            // Clearly a different page: skip the pixel diff and show the baseline next to it
+            return report(driver, new Result(name, false, total, total, "perceptual hash distance " + hashDistance),
+                actual, expected, "Expected baseline " + name);
+        }
+
+        boolean[] changedTiles = new boolean[tilesAcross(actualImage) * tilesDown(actualImage)];
+        long differing = ForkJoinPool.commonPool().invoke(new TileDiff(actualImage, expectedImage, masks,
+            changedTiles, 0, changedTiles.length));
+        boolean match = differing <= total * maxDiffRatio();
+        if (match) {
+            return report(driver, new Result(name, true, differing, total, "hash distance " + hashDistance),
+                null, null, null);
+        }
+        ByteArrayOutputStream diff = new ByteArrayOutputStream();
+        ImageIO.write(diffImage(actualImage, changedTiles), "png", diff);
+        return report(driver, new Result(name, false, differing, total, "hash distance " + hashDistance),
+            actual, diff.toByteArray(), "Visual diff of " + name + " (changed tiles in red)");
+    }
+
+    /**
+     * Logs the outcome; on mismatch also the current page and a second image (diff or baseline)
+     */
+    private static Result report(WebDriver driver, Result result, byte[] actual, byte[] evidence,
+                                 String evidenceLabel) {
+        if (result.isMatch()) {
+            ExtentReportManager.logPass(result.toString(), null);
+            return result;
+        }
+        ExtentReportManager.logFail(result.toString(),
+            ScreenshotStore.store(driver, actual, ScreenshotProfile.failure().getThumbnailWidth()));
+        if (evidence != null) {
+            String evidenceFile = "visual_" + result.name.replaceAll("[^a-zA-Z0-9-]", "_") + "_" + System.nanoTime() + ".png";
+            ScreenshotWriter.submit(evidenceFile, evidence);
+            ExtentReportManager.logFail(evidenceLabel, evidenceFile);
+        }
+        return result;
+    }
+
+    /**
+     * Writes a baseline through a temp file and an atomic move, so parallel scenarios
+     * reading the same baseline never see a partial file
+     */
+    private static void record(Path baselineFile, byte[] image) throws IOException {
+        Files.createDirectories(baselineFile.getParent());
+        Path temp = Files.createTempFile(baselineFile.getParent(), baselineFile.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, image);
+            Files.move(temp, baselineFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // Masks ///////////////////////////////////////////////////////////////////
+
+    private static List<Rectangle> masks(WebDriver driver, String name) throws IOException {
+        List<String> selectors = new ArrayList<>();
+        List<Rectangle> masks = new ArrayList<>();
+        for (String selector : ConfigReader.getProperty("visual.mask.selectors", "").split(",")) {
+            if (!selector.trim().isEmpty()) selectors.add(selector.trim());
+        }
+        Path maskFile = baselineDir().resolve(name.replaceAll("[^a-zA-Z0-9-]", "_") + ".mask");
+        if (Files.exists(maskFile)) {
+            for (String line : Files.readAllLines(maskFile, StandardCharsets.UTF_8)) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                if (line.startsWith("css=")) {
+                    selectors.add(line.substring(4));
+                } else {
+                    String[] parts = line.split(",");
+                    masks.add(new Rectangle(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()),
+                        Integer.parseInt(parts[2].trim()), Integer.parseInt(parts[3].trim())));
+                }
+            }
+        }
+        if (!selectors.isEmpty() && driver instanceof JavascriptExecutor) {
+            Object rects = ((JavascriptExecutor) driver).executeScript(MASK_SCRIPT, selectors);
+            for (Object rect : (List<?>) rects) {
+                List<?> values = (List<?>) rect;
+                masks.add(new Rectangle(((Number) values.get(0)).intValue(), ((Number) values.get(1)).intValue(),
+                    ((Number) values.get(2)).intValue(), ((Number) values.get(3)).intValue()));
+            }
+        }
+        return masks;
+    }
+
+    // Tiled Diff //////////////////////////////////////////////////////////////
+
+    private static int tilesAcross(BufferedImage image) {
+        return (image.getWidth() + TILE - 1) / TILE;
+    }
+
+    private static int tilesDown(BufferedImage image) {
+        return (image.getHeight() + TILE - 1) / TILE;
+    }
+
+    /**
+     * Counts differing pixels over a range of tiles, splitting the range until it is small
+     */
+    private static class TileDiff extends RecursiveTask<Long> {
+        private static final int TILES_PER_TASK = 8;
+
+        private final BufferedImage actual;
+        private final BufferedImage expected;
+        private final List<Rectangle> masks;
+        private final boolean[] changedTiles;
+        private final int from;
+        private final int to;
+
+        private TileDiff(BufferedImage actual, BufferedImage expected, List<Rectangle> masks,
+                         boolean[] changedTiles, int from, int to) {
+            this.actual = actual;
+            this.expected = expected;
+            this.masks = masks;
+            this.changedTiles = changedTiles;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from > TILES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                TileDiff left = new TileDiff(actual, expected, masks, changedTiles, from, middle);
+                left.fork();
+                long right = new TileDiff(actual, expected, masks, changedTiles, middle, to).compute();
+                return left.join() + right;
+            }
+            long differing = 0;
+            for (int tile = from; tile < to; tile++) {
+                long tileDiff = diffTile(tile);
+                changedTiles[tile] = tileDiff > 0;
+                differing += tileDiff;
+            }
+            return differing;
+        }
+
+        private long diffTile(int tile) {
+            int x0 = (tile % tilesAcross(actual)) * TILE;
+            int y0 = (tile / tilesAcross(actual)) * TILE;
+            int width = Math.min(TILE, actual.getWidth() - x0);
+            int height = Math.min(TILE, actual.getHeight() - y0);
+            Rectangle bounds = new Rectangle(x0, y0, width, height);
+            List<Rectangle> tileMasks = new ArrayList<>();
+            for (Rectangle mask : masks) {
+                if (mask.contains(bounds)) return 0;
+                if (mask.intersects(bounds)) tileMasks.add(mask);
+            }
+
+            int[] actualPixels = actual.getRGB(x0, y0, width, height, null, 0, width);
+            int[] expectedPixels = expected.getRGB(x0, y0, width, height, null, 0, width);
+            int tolerance = pixelTolerance();
+            long differing = 0;
+            for (int i = 0; i < actualPixels.length; i++) {
+                if (actualPixels[i] == expectedPixels[i]) continue;
+                if (!withinTolerance(actualPixels[i], expectedPixels[i], tolerance)
+                        && !isMasked(tileMasks, x0 + i % width, y0 + i / width)) {
+                    differing++;
+                }
+            }
+            return differing;
+        }
+    }
+
+    private static boolean withinTolerance(int a, int b, int tolerance) {
+        return Math.abs(((a >> 16) & 0xFF) - ((b >> 16) & 0xFF)) <= tolerance
+            && Math.abs(((a >> 8) & 0xFF) - ((b >> 8) & 0xFF)) <= tolerance
+            && Math.abs((a & 0xFF) - (b & 0xFF)) <= tolerance;
+    }
+
+    private static boolean isMasked(List<Rectangle> masks, int x, int y) {
+        for (Rectangle mask : masks) {
+            if (mask.contains(x, y)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return Copy of the actual image with changed tiles tinted red
+     */
+    private static BufferedImage diffImage(BufferedImage actual, boolean[] changedTiles) {
+        BufferedImage diff = new BufferedImage(actual.getWidth(), actual.getHeight(), BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < actual.getHeight(); y++) {
+            for (int x = 0; x < actual.getWidth(); x++) {
+                int rgb = actual.getRGB(x, y) & 0xFFFFFF;
+                boolean changed = changedTiles[(y / TILE) * tilesAcross(actual) + x / TILE];
+                diff.setRGB(x, y, changed ? ((rgb >> 1) & 0x7F7F7F) | HIGHLIGHT : rgb);
+            }
+        }
+        return diff;
+    }
+
+    // Settings ////////////////////////////////////////////////////////////////
+
+    private static Path baselineDir() {
+        return Paths.get(ConfigReader.getProperty("visual.baseline.dir", "src/test/resources/baselines"));
+    }
+
+    private static boolean isUpdating() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("visual.baseline.update", "false"));
+    }
+
+    private static int pixelTolerance() {
+        return Integer.parseInt(ConfigReader.getProperty("visual.pixel.tolerance", "16"));
+    }
+
+    private static double maxDiffRatio() {
+        return Double.parseDouble(ConfigReader.getProperty("visual.max.diff.ratio", "0.001"));
+    }
+
+    private static int maxHashDistance() {
+        return Integer.parseInt(ConfigReader.getProperty("visual.hash.distance", "40"));
+    }
+
+    /**
+     * Outcome of one baseline comparison
+     */
+    public static class Result {
+        private final String name;
+        private final boolean match;
+        private final long differingPixels;
+        private final long totalPixels;
+        private final String detail;
+
+        private Result(String name, boolean match, long differingPixels, long totalPixels, String detail) {
+            this.name = name;
+            this.match = match;
+            this.differingPixels = differingPixels;
+            this.totalPixels = totalPixels;
+            this.detail = detail;
+        }
+
+        public boolean isMatch() {
+            return match;
+        }
+
+        public long getDifferingPixels() {
+            return differingPixels;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Page %s baseline %s: %d of %d pixels differ (%s)",
+                match ? "matches" : "does not match", name, differingPixels, totalPixels, detail);
+        }
+    }
+}
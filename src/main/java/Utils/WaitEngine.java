@@ -0,0 +1,166 @@
+package Utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Shared explicit-wait engine replacing per-call WebDriverWaits and their fixed 500 ms polling.
+ * Polls start tight (wait.poll.initial.ms) and back off by wait.poll.multiplier up to
+ * wait.poll.max.ms, so fast elements are picked up within a few ms and slow ones are not
+ * hammered. Every wait records its latency per element name and condition; read p50/p99
+ * through percentileMillis() to tune timeouts.
+ */
+public class WaitEngine {
+    private static final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+
+    public WaitEngine(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Polls the condition until it returns a non-null, non-false value
+     * @param elementName Logical element (or page) name the latency is recorded under
+     * @param condition Condition name, e.g. "clickable"
+     * @param timeout Maximum time to wait
+     * @param check Condition to evaluate, e.g. an ExpectedCondition
+     * @return Value returned by the condition
+     * @throws TimeoutException if the condition does not hold in time
+     */
+    public <T> T until(String elementName, String condition, Duration timeout, Function<? super WebDriver, T> check) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        Backoff backoff = backoff();
+        RuntimeException lastError = null;
+
+        while (true) {
+            long attemptStart = System.nanoTime();
+            try {
+                T value = check.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    record(elementName, condition, System.nanoTime() - start);
+                    return value;
+                }
+                // Conditions such as visibilityOfElementLocated swallow the lookup's NoSuchElementException
+                ImplicitWaits.recordIfBlocked(attemptStart);
+            } catch (NotFoundException e) {
+                // With an implicit wait active this attempt blocked for its full timeout
+                ImplicitWaits.recordMiss(attemptStart);
+                lastError = e;
+            } catch (StaleElementReferenceException e) {
+                lastError = e;
+            }
+            if (System.nanoTime() > deadline) {
+                histogram(elementName, condition).recordTimeout();
+                throw new TimeoutException(String.format("Expected condition failed: waiting for %s to be %s (tried for %d ms)",
+                    elementName, condition, timeout.toMillis()), lastError);
+            }
+            backoff.pause(deadline);
+        }
+    }
+
+    // Backoff /////////////////////////////////////////////////////////////////
+
+    /**
+     * @return Poll schedule using the configured initial interval, multiplier and cap
+     */
+    public static Backoff backoff() {
+        return new Backoff(
+            Long.parseLong(ConfigReader.getProperty("wait.poll.initial.ms", "10")),
+            Long.parseLong(ConfigReader.getProperty("wait.poll.max.ms", "250")),
+            Double.parseDouble(ConfigReader.getProperty("wait.poll.multiplier", "1.5"))
+        );
+    }
+
+    /**
+     * Growing poll interval for one wait
+     */
+    public static class Backoff {
+        private final long maxMillis;
+        private final double multiplier;
+        private double nextMillis;
+
+        private Backoff(long initialMillis, long maxMillis, double multiplier) {
+            this.nextMillis = initialMillis;
+            this.maxMillis = maxMillis;
+            this.multiplier = multiplier;
+        }
+
+        /**
+         * Sleeps for the current interval, never past the deadline, then grows the interval
+         * @param deadlineNanos System.nanoTime() at which the wait gives up
+         */
+        public void pause(long deadlineNanos) {
+            long remainingMillis = Math.max(1, (deadlineNanos - System.nanoTime()) / 1_000_000);
+            try {
+                Thread.sleep(Math.min((long) nextMillis, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while waiting", e);
+            }
+            nextMillis = Math.min(nextMillis * multiplier, maxMillis);
+        }
+    }
+
+    // Latency Histograms //////////////////////////////////////////////////////
+
+    /**
+     * Records the latency of a wait performed outside until(), e.g. by PageReadinessEngine
+     */
+    public static void record(String elementName, String condition, long nanos) {
+        histogram(elementName, condition).record(nanos);
+    }
+
+    /**
+     * @param elementName Logical element name used by the waits
+     * @param condition Condition name
+     * @param percentile Fraction between 0 and 1, e.g. 0.5 or 0.99
+     * @return Latency in ms at that percentile, 0 if the pair was never waited for
+     */
+    public static long percentileMillis(String elementName, String condition, double percentile) {
+        LatencyHistogram histogram = histograms.get(key(elementName, condition));
+        return histogram == null ? 0 : histogram.percentileMillis(percentile);
+    }
+
+    /**
+     * @return Read-only view of every histogram, keyed by "element [condition]"
+     */
+    public static Map<String, LatencyHistogram> getHistograms() {
+        return Collections.unmodifiableMap(histograms);
+    }
+
+    /**
+     * @return One line per element and condition, slowest p99 first
+     */
+    public static String report() {
+        List<Map.Entry<String, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort((a, b) -> Long.compare(b.getValue().percentileMillis(0.99), a.getValue().percentileMillis(0.99)));
+        StringBuilder report = new StringBuilder();
+        for (Map.Entry<String, LatencyHistogram> entry : entries) {
+            LatencyHistogram histogram = entry.getValue();
+            report.append(String.format("%s: %d waits, p50 %d ms, p99 %d ms, max %d ms, %d timeouts%n",
+                entry.getKey(), histogram.getCount(), histogram.percentileMillis(0.5),
+                histogram.percentileMillis(0.99), histogram.getMaxMillis(), histogram.getTimeouts()));
+        }
+        return report.toString();
+    }
+
+    private static LatencyHistogram histogram(String elementName, String condition) {
+        return histograms.computeIfAbsent(key(elementName, condition), k -> new LatencyHistogram());
+    }
+
+    private static String key(String elementName, String condition) {
+        return elementName + " [" + condition + "]";
+    }
+}
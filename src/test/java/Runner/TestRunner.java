@@ -1,11 +1,29 @@
 package Runner;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.testng.ITestContext;
 import org.testng.annotations.AfterSuite;
+import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Listeners;
 
 import Listeners.ExtentTestListener;
+import TestBase.DriverPool;
+import TestBase.SessionMetrics;
+import TestBase.SessionPreLauncher;
+import TestBase.WireRecorder;
+import Utils.ActionMetrics;
+import Utils.ElementCache;
 import Utils.ExtentReportManager;
+import Utils.ImplicitWaits;
+import Utils.LocatorProfiler;
+import Utils.ScreenshotStore;
+import Utils.ScreenshotWriter;
+import Utils.SessionCircuitBreaker;
+import Utils.StepEvidence;
+import Utils.WaitEngine;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
 
@@ -25,8 +43,48 @@ public class TestRunner extends AbstractTestNGCucumberTests {
 		return super.scenarios();
 	}
 
+	@BeforeSuite
+	public void warmUpSessions(ITestContext context) {
+		// parallel scenarios run on the data-provider pool, so warm that many sessions
+		SessionPreLauncher.start(context.getSuite().getXmlSuite().getDataProviderThreadCount());
+	}
+
 	@AfterSuite
 	public void tearDownSuite() {
+		System.out.println("Session throughput: " + SessionMetrics.summary());
+		System.out.println("Session leases: " + SessionMetrics.leaseSummary());
+		System.out.println("Element cache: " + ElementCache.summary());
+		System.out.println("Implicit wait cost: " + ImplicitWaits.summary());
+		System.out.println("Lost sessions: " + SessionCircuitBreaker.summary());
+		System.out.print("Wait latencies:\n" + WaitEngine.report());
+		ExtentReportManager.addSystemInfo("Session throughput", SessionMetrics.summary());
+		ExtentReportManager.addSystemInfo("Session leases", SessionMetrics.leaseSummary());
+		ExtentReportManager.addSystemInfo("Element cache", ElementCache.summary());
+		ExtentReportManager.addSystemInfo("Implicit wait cost", ImplicitWaits.summary());
+		ExtentReportManager.addSystemInfo("Lost sessions", SessionCircuitBreaker.summary());
+		try {
+			Path metricsDir = ActionMetrics.export();
+			if (metricsDir != null) System.out.println("Action metrics exported to " + metricsDir);
+		} catch (IOException e) {
+			System.err.println("WARNING: Failed to export action metrics: " + e.getMessage());
+		}
+		try {
+			Path locatorReport = LocatorProfiler.writeReport();
+			if (locatorReport != null) System.out.println("Locator profile written to " + locatorReport);
+		} catch (IOException e) {
+			System.err.println("WARNING: Failed to write locator profile: " + e.getMessage());
+		}
+		DriverPool.shutdown();
+		WireRecorder.close();
+		if (!ScreenshotWriter.drain(60)) {
+			System.err.println("WARNING: Screenshot writer did not drain within 60s");
+		}
+		System.out.println("Screenshots: " + ScreenshotWriter.summary());
+		ExtentReportManager.addSystemInfo("Screenshots", ScreenshotWriter.summary());
+		System.out.println("Screenshot store: " + ScreenshotStore.summary());
+		ExtentReportManager.addSystemInfo("Screenshot store", ScreenshotStore.summary());
+		System.out.println("Step evidence: " + StepEvidence.summary());
+		ExtentReportManager.addSystemInfo("Step evidence", StepEvidence.summary());
 		ExtentReportManager.flushReport();
 	}
 }
@@ -1,37 +1,41 @@
 package StepDefs.Common;
 
+import java.io.IOException;
+
+import Pages.NavigationGraph;
 import TestBase.TestBase;
-import Utils.ActionHelper;
 import Utils.ConfigReader;
+import Utils.VisualBaseline;
 import io.cucumber.java.en.Given;
+import io.cucumber.java.en.Then;
 
-public abstract class CommonSteps {
+public class CommonSteps {
     
     protected final TestBase testBase;
-    protected final ActionHelper actions;
+    protected final NavigationGraph navigation;
     
-    public CommonSteps(TestBase testBase) {
+    public CommonSteps(TestBase testBase, NavigationGraph navigation) {
         this.testBase = testBase;
-        //this.actions = actions;
+        this.navigation = navigation;
     }
 
     // =============== Common Steps ===============
     
     @Given("I am on the {string} page")
-    public void navigateToPage(String pageName) {
-        String url = getPageUrl(pageName);
-        actions.navigateTo(url);
-        actions.waitForPageReadyState(pageName);
+    public void navigateToPage(String pageName) throws IOException {
+        navigation.goTo(pageName, ConfigReader.getProperty("navigation.user", "member"));
+    }
+
+    @Given("I am on the {string} page as {string}")
+    public void navigateToPageAs(String pageName, String user) throws IOException {
+        navigation.goTo(pageName, user);
     }
 
-    private String getPageUrl(String pageName) {
-        switch(pageName.toLowerCase()) {
-            case "homepage":
-                return ConfigReader.getProperty("url");
-            case "dashboard":
-                return ConfigReader.getProperty("dashboard.url");
-            default:
-                throw new IllegalArgumentException("Unknown page: " + pageName);
+    @Then("the page matches baseline {string}")
+    public void pageMatchesBaseline(String baselineName) throws IOException {
+        VisualBaseline.Result result = VisualBaseline.compare(testBase.getDriver(), baselineName);
+        if (!result.isMatch()) {
+            throw new AssertionError(result.toString());
         }
     }
 }
\ No newline at end of file
@@ -5,9 +5,16 @@ import io.cucumber.java.AfterStep;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import org.openqa.selenium.WebDriver;
+import Pages.NavigationGraph;
+import TestBase.NetworkProfiles;
 import TestBase.TestBase;
 import Utils.ExtentReportManager;
+import Utils.LocatorProfiler;
+import Utils.ScreenshotProfile;
 import Utils.ScreenshotUtils;
+import Utils.SessionCircuitBreaker;
+import Utils.SessionStateCache;
+import Utils.StepEvidence;
 
 public class Hooks {
     private final TestBase testBase;
@@ -20,6 +27,9 @@ public class Hooks {
     @Before(order = 0)
     public void setupReporting(Scenario scenario) {
         currentScenario.set(scenario);
+        SessionStateCache.setOptedOut(scenario.getSourceTagNames().contains("@no-session-cache"));
+        NavigationGraph.setUiOnly(scenario.getSourceTagNames().contains("@ui-navigation"));
+        NetworkProfiles.setScenarioProfile(getNetworkProfile(scenario));
         String sanitizedName = scenario.getName().replaceAll("[^a-zA-Z0-9-]", "_");
         ExtentReportManager.startTest(
             sanitizedName,
@@ -62,6 +72,9 @@ public class Hooks {
             if (ssPath != null) {
                 ExtentReportManager.logInfo("Step executed", ssPath);
             }
+            if (LocatorProfiler.isEnabled()) {
+                LocatorProfiler.profile(driver);
+            }
         } catch (Exception e) {
             ExtentReportManager.logWarning("Step evidence failed: " + e.getMessage(), null);
         }
@@ -74,8 +87,14 @@ public class Hooks {
             WebDriver driver = testBase.getDriver();
             
             if (isDriverActive(driver)) {
+                if (scenario.isFailed()) {
+                    StepEvidence.flush(driver, "Scenario failed");
+                }
                 String ssName = "FINAL_" + scenario.getName().replaceAll(" ", "_");
-                String ssPath = ScreenshotUtils.capture(driver, ssName);
+                // A passing scenario's final frame is step evidence and follows evidence.policy
+                String ssPath = scenario.isFailed()
+                    ? ScreenshotUtils.capture(driver, ssName, ScreenshotProfile.failure())
+                    : ScreenshotUtils.capture(driver, ssName);
                 if (ssPath != null) {
                     ExtentReportManager.logInfo("Final state", ssPath);
                 }
@@ -84,8 +103,11 @@ public class Hooks {
             if (scenario.isFailed()) {
                 ExtentReportManager.logFail("Scenario Failed", null);
             }
+            // Frames of a passing scenario are never written
+            StepEvidence.discard(driver);
         } finally {
             testBase.tearDown();
+            ExtentReportManager.endTest();
             //ExtentReportManager.flushReport(); //removing this to avoid double flushing when using listener
             currentScenario.remove();
         }
@@ -93,12 +115,22 @@ public class Hooks {
 
     private boolean isDriverActive(WebDriver driver) {
         try {
-            return driver != null && driver.getTitle() != null;
+            return driver != null && !SessionCircuitBreaker.isOpen(driver) && driver.getTitle() != null;
         } catch (Exception e) {
             return false;
         }
     }
 
+    /**
+     * @return Profile named by a @network-NAME tag, null to keep the run-wide profile
+     */
+    private String getNetworkProfile(Scenario scenario) {
+        for (String tag : scenario.getSourceTagNames()) {
+            if (tag.startsWith("@network-")) return tag.substring("@network-".length());
+        }
+        return null;
+    }
+
     private String getFeatureName(Scenario scenario) {
         return scenario.getId().split(";")[0].replaceAll("[^a-zA-Z0-9-]", "_");
     }
@@ -3,11 +3,14 @@ package StepDefs;
 import Pages.HomePage;
 import Pages.LoginPage;
 import Pages.MemberPage;
+import Pages.PageRegistry;
 import TestBase.TestBase;
 import Utils.ConfigReader;
 import Utils.ExtentReportManager;
 import Utils.PasswordManager;
+import Utils.ScreenshotProfile;
 import Utils.ScreenshotUtils;
+import Utils.SessionStateCache;
 import io.cucumber.java.en.And;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.Then;
@@ -18,17 +21,14 @@ import static org.testng.Assert.*;
 import java.io.IOException;
 
 public class LoginSteps {
-    //private final TestBase testBase;
-    private final HomePage homePage;
-    private final LoginPage loginPage;
-    private final MemberPage memberPage;
+    private final TestBase testBase;
+    private final PageRegistry pages;
     private final WebDriver driver;
 
-    public LoginSteps(TestBase testBase) throws IOException {
+    public LoginSteps(TestBase testBase, PageRegistry pages) {
+        this.testBase = testBase;
+        this.pages = pages;
         this.driver = testBase.getDriver();
-        this.homePage = new HomePage(testBase);
-        this.loginPage = new LoginPage(testBase);
-        this.memberPage = new MemberPage(testBase);
     }
 
     @Given("I am on the landing page")
@@ -39,7 +39,7 @@ public class LoginSteps {
 
     @Given("I click the login button")
     public void clickLoginBtn() throws IOException {
-        homePage.clickLogin();
+        pages.get(HomePage.class).clickLogin();
         String screenshotFile = ScreenshotUtils.capture(driver, "LoginPage");
         ExtentReportManager.logPass("Login verification successful", screenshotFile);
         //ExtentReportManager.logPass("Clicked login button", "screenshots");
@@ -47,19 +47,36 @@ public class LoginSteps {
     
     @And("I click homepage icon")
     public void clickHome() throws IOException {
-        homePage.clickHome();
+        pages.get(HomePage.class).clickHome();
         String screenshotFile = ScreenshotUtils.capture(driver, "HomePage");
         ExtentReportManager.logPass("Clicked Home Icon", screenshotFile);
     }
 
+    @Given("I am signed in as {string}")
+    public void signInAs(String user) throws IOException {
+        String username = ConfigReader.getProperty(user + ".username");
+        String password = PasswordManager.decrypt(ConfigReader.getProperty(user + ".password"));
+
+        // The member page must be loaded before SessionStateCache captures the signed-in state
+        SessionStateCache.signIn(driver, user, () ->
+            pages.get(HomePage.class).clickLogin()
+                    .enterCredentials(username, password)
+                    .clickLogin()
+                    .ensureLoaded()
+        );
+        // Also covers a restored session, which reaches the member page without the UI flow
+        pages.navigatedTo(MemberPage.class).ensureLoaded();
+        String screenshotFile = ScreenshotUtils.capture(driver, "MemberPage");
+        ExtentReportManager.logPass("Signed in as " + user, screenshotFile);
+    }
+
     @When("I provide valid login credential")
     public void loginToApp() throws IOException {
         String username = ConfigReader.getProperty("username");
         String encryptedPassword = ConfigReader.getProperty("password");
         String password = PasswordManager.decrypt(encryptedPassword);
         
-        loginPage.enterEmail(username)
-                 .enterPsd(password)
+        pages.get(LoginPage.class).enterCredentials(username, password)
                  .clickLogin();
         
         String screenshotFile = ScreenshotUtils.capture(driver, "LoginPage");
@@ -72,8 +89,7 @@ public class LoginSteps {
         String encryptedPassword = ConfigReader.getProperty("password1");
         String password = PasswordManager.decrypt(encryptedPassword);
         
-        loginPage.enterEmail(username)
-                 .enterPsd(password)
+        pages.get(LoginPage.class).enterCredentials(username, password)
                  .clickLogin();
         
         String screenshotFile = ScreenshotUtils.capture(driver, "LoginPage");
@@ -83,12 +99,12 @@ public class LoginSteps {
     @Then("I should be logged into the application")
     public void verifySuccessfulLogin() throws IOException {
         try {
-            assertTrue(memberPage.isWelcomeBannerDisplayed(), 
+            assertTrue(pages.get(MemberPage.class).isWelcomeBannerDisplayed(), 
                      "Welcome banner displayed after login");
             String screenshotFile = ScreenshotUtils.capture(driver, "LoginPage");
             ExtentReportManager.logPass("Welcome Banner is Displayed", screenshotFile);
         } catch (AssertionError e) {
-            String screenshotPath = ScreenshotUtils.capture(driver, "login_failure");
+            String screenshotPath = ScreenshotUtils.capture(driver, "login_failure", ScreenshotProfile.failure());
             ExtentReportManager.logFail("Login verification failed: " + e.getMessage(), screenshotPath);
             throw e;
         }
@@ -97,11 +113,11 @@ public class LoginSteps {
     @Then("I should not be logged into the application")
     public void verifyUnSuccessfulLogin() throws IOException {
         try {
-            assertTrue(loginPage.isErrDisplayed(), 
+            assertTrue(pages.get(LoginPage.class).isErrDisplayed(), 
                      "Error displayed after login");
             ExtentReportManager.logPass("Login verification successful", "screenshots");
         } catch (AssertionError e) {
-            String screenshotPath = ScreenshotUtils.capture(driver, "login_failure");
+            String screenshotPath = ScreenshotUtils.capture(driver, "login_failure", ScreenshotProfile.failure());
             ExtentReportManager.logFail("Login verification failed: " + e.getMessage(), screenshotPath);
             throw e;
         }
@@ -110,11 +126,11 @@ public class LoginSteps {
     @Then("I should be back on homepage")
     public void backToHome() throws IOException {
         try {
-            assertTrue(homePage.isBannerPresent(), 
+            assertTrue(pages.get(HomePage.class).isBannerPresent(), 
                      "Welcome banner displayed");
             ExtentReportManager.logPass("Back to Homepage success.", "screenshots");
         } catch (AssertionError e) {
-            String screenshotPath = ScreenshotUtils.capture(driver, "login_failure");
+            String screenshotPath = ScreenshotUtils.capture(driver, "login_failure", ScreenshotProfile.failure());
             ExtentReportManager.logFail("Login verification failed: " + e.getMessage(), screenshotPath);
             throw e;
         }
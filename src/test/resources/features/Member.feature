@@ -0,0 +1,9 @@
+#Author: kbaniya
+
+@member @smoke
+Feature: Member dashboard
+
+  @parallel
+  Scenario: Signed-in member lands on the dashboard
+    Given I am signed in as "member"
+    Then I should be logged into the application